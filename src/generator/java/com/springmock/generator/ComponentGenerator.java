@@ -0,0 +1,198 @@
+package com.springmock.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * <p>The {@link ComponentGenerator} writes the sources of synthetic {@code @Component} classes, used to measure how
+ * the container behaves with thousands of beans.</p>
+ * <p>One package is generated for every requested size, named after the size, for example
+ * {@code com.springmock.generated.s1000}. The components of a package form an acyclic graph of the following
+ * shape:</p>
+ * <ul>
+ *     <li>{@code depth}: the components are spread over this many layers, and every component depends only on
+ *     components of the next layer, so the longest dependency chain has exactly this many components</li>
+ *     <li>{@code fanOut}: the number of dependencies of every component outside the last layer</li>
+ *     <li>{@code fanIn}: the average number of dependents of a depended on component; the dependencies are drawn
+ *     from a correspondingly smaller part of the next layer</li>
+ *     <li>{@code constructorRatio}: the share of components injected through their constructor instead of
+ *     {@code @Autowired} fields</li>
+ *     <li>{@code valueDensity} and {@code multiValueDensity}: the average number of {@code @Value} and
+ *     {@code @MultiValue} fields per component</li>
+ * </ul>
+ * <p>The options are passed as {@code --name=value} arguments. The same options and {@code seed} always produce the
+ * same sources.</p>
+ */
+public class ComponentGenerator {
+    private static final String[][] VALUES = {
+            {"Integer", "number"}
+    };
+    private static final String[][] MULTI_VALUES = {
+            {"java.util.List<Integer>", "numbers"},
+            {"java.util.Set<Integer>", "numbersSet"},
+            {"Double[]", "numbersDouble"}
+    };
+
+    private final Path output;
+    private final String basePackage;
+    private final int depth;
+    private final int fanOut;
+    private final double fanIn;
+    private final double constructorRatio;
+    private final double valueDensity;
+    private final double multiValueDensity;
+    private final long seed;
+
+    ComponentGenerator(Map<String, String> options) {
+        this.output = Path.of(required(options, "output"));
+        this.basePackage = options.getOrDefault("package", "com.springmock.generated");
+        this.depth = Math.max(1, Integer.parseInt(options.getOrDefault("depth", "10")));
+        this.fanOut = Math.max(0, Integer.parseInt(options.getOrDefault("fanOut", "3")));
+        this.fanIn = Math.max(1, Double.parseDouble(options.getOrDefault("fanIn", "3")));
+        this.constructorRatio = Double.parseDouble(options.getOrDefault("constructorRatio", "0.5"));
+        this.valueDensity = Double.parseDouble(options.getOrDefault("valueDensity", "0.5"));
+        this.multiValueDensity = Double.parseDouble(options.getOrDefault("multiValueDensity", "0.2"));
+        this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+    }
+
+    /**
+     * Generates the components.
+     *
+     * @param args the options as {@code --name=value} arguments; {@code output} is required, {@code sizes} is a comma
+     *             separated list of component counts
+     * @throws IOException if a source file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        ComponentGenerator generator = new ComponentGenerator(options);
+        for (String size : options.getOrDefault("sizes", "100,1000").split(",")) {
+            generator.generate(Integer.parseInt(size.trim()));
+        }
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing option --" + name);
+        }
+        return value;
+    }
+
+    /**
+     * Generates the package with the specified number of components.
+     *
+     * @param size the number of components
+     * @throws IOException if a source file cannot be written
+     */
+    void generate(int size) throws IOException {
+        String packageName = basePackage + ".s" + size;
+        Path directory = output.resolve(packageName.replace('.', '/'));
+        Files.createDirectories(directory);
+        Random random = new Random(seed ^ size);
+        List<List<String>> layers = createLayers(size);
+        for (int layer = 0; layer < layers.size(); layer++) {
+            List<String> next = layer + 1 < layers.size() ? layers.get(layer + 1) : List.of();
+            for (String name : layers.get(layer)) {
+                Set<String> dependencies = chooseDependencies(next, random);
+                try (Writer writer = Files.newBufferedWriter(directory.resolve(name + ".java"),
+                        StandardCharsets.UTF_8)) {
+                    writer.write(source(packageName, name, dependencies, random));
+                }
+            }
+        }
+    }
+
+    private List<List<String>> createLayers(int size) {
+        int layerCount = Math.min(depth, size);
+        List<List<String>> layers = new ArrayList<>(layerCount);
+        for (int i = 0; i < layerCount; i++) {
+            layers.add(new ArrayList<>());
+        }
+        String format = "S" + size + "Bean%0" + String.valueOf(size - 1).length() + "d";
+        for (int i = 0; i < size; i++) {
+            layers.get(i * layerCount / size).add(String.format(format, i));
+        }
+        return layers;
+    }
+
+    private Set<String> chooseDependencies(List<String> next, Random random) {
+        Set<String> dependencies = new LinkedHashSet<>();
+        if (next.isEmpty() || fanOut == 0) {
+            return dependencies;
+        }
+        int candidates = (int) Math.max(Math.min(fanOut, next.size()), Math.ceil(next.size() * fanOut / fanIn));
+        candidates = Math.min(candidates, next.size());
+        while (dependencies.size() < Math.min(fanOut, candidates)) {
+            dependencies.add(next.get(random.nextInt(candidates)));
+        }
+        return dependencies;
+    }
+
+    private String source(String packageName, String name, Set<String> dependencies, Random random) {
+        boolean constructorInjection = random.nextDouble() < constructorRatio;
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n")
+                .append("import com.springmock.annotations.Autowired;\n")
+                .append("import com.springmock.annotations.Component;\n")
+                .append("import com.springmock.annotations.MultiValue;\n")
+                .append("import com.springmock.annotations.Value;\n\n")
+                .append("@Component\n")
+                .append("public class ").append(name).append(" {\n");
+        int index = 0;
+        for (String dependency : dependencies) {
+            if (!constructorInjection) {
+                source.append("    @Autowired\n");
+            }
+            source.append("    public ").append(dependency).append(" dependency").append(index++).append(";\n");
+        }
+        int values = count(valueDensity, random);
+        for (int i = 0; i < values; i++) {
+            String[] value = VALUES[random.nextInt(VALUES.length)];
+            source.append("    @Value(\"").append(value[1]).append("\")\n")
+                    .append("    public ").append(value[0]).append(" value").append(i).append(";\n");
+        }
+        int multiValues = count(multiValueDensity, random);
+        for (int i = 0; i < multiValues; i++) {
+            String[] value = MULTI_VALUES[random.nextInt(MULTI_VALUES.length)];
+            source.append("    @MultiValue(\"").append(value[1]).append("\")\n")
+                    .append("    public ").append(value[0]).append(" values").append(i).append(";\n");
+        }
+        if (constructorInjection && !dependencies.isEmpty()) {
+            List<String> parameters = new ArrayList<>();
+            List<String> assignments = new ArrayList<>();
+            index = 0;
+            for (String dependency : dependencies) {
+                parameters.add(dependency + " dependency" + index);
+                assignments.add("        this.dependency" + index + " = dependency" + index + ";\n");
+                index++;
+            }
+            source.append("\n    public ").append(name).append('(').append(String.join(", ", parameters))
+                    .append(") {\n");
+            assignments.forEach(source::append);
+            source.append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static int count(double density, Random random) {
+        int count = (int) density;
+        return random.nextDouble() < density - count ? count + 1 : count;
+    }
+}
@@ -0,0 +1,70 @@
+package com.springmock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TopologicalSort#getSorted(Map)} on generated graphs. The benchmark lives in the package of the
+ * package-private {@link TopologicalSort}.
+ * <ul>
+ *     <li>{@code chain}: every vertex depends on the next one, the deepest possible graph</li>
+ *     <li>{@code layered}: vertices depend on up to four random vertices with a higher index, a typical wide graph</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopologicalSortBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"chain", "layered"})
+    public String shape;
+
+    private Map<Integer, Set<Integer>> graph;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        graph = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Set<Integer> dependencies = new HashSet<>();
+            if (shape.equals("chain")) {
+                if (i + 1 < size) {
+                    dependencies.add(i + 1);
+                }
+            } else {
+                for (int j = 0; j < 4 && i + 1 < size; j++) {
+                    dependencies.add(i + 1 + random.nextInt(Math.min(size - i - 1, 1000)));
+                }
+            }
+            graph.put(i, dependencies);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> getSorted() {
+        return TopologicalSort.getSorted(graph);
+    }
+}
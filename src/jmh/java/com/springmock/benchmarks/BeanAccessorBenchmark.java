@@ -0,0 +1,79 @@
+package com.springmock.benchmarks;
+
+import com.springmock.accessors.BeanAccessorFactory;
+import com.springmock.accessors.FieldInjector;
+import com.springmock.accessors.Instantiator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares instantiating a bean and injecting its fields through the reflective and the method handle accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanAccessorBenchmark {
+
+    @Param({"reflective", "methodHandles"})
+    public String accessors;
+
+    private Instantiator instantiator;
+    private FieldInjector nameInjector;
+    private FieldInjector countInjector;
+    private final Object[] args = {new Dependency()};
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        BeanAccessorFactory factory = accessors.equals("reflective")
+                ? BeanAccessorFactory.reflective()
+                : BeanAccessorFactory.methodHandles();
+        instantiator = factory.instantiator(Bean.class.getConstructor(Dependency.class));
+        Field name = Bean.class.getDeclaredField("name");
+        name.setAccessible(true);
+        Field count = Bean.class.getDeclaredField("count");
+        count.setAccessible(true);
+        nameInjector = factory.injector(name);
+        countInjector = factory.injector(count);
+    }
+
+    @Benchmark
+    public Object instantiate() {
+        return instantiator.newInstance(args);
+    }
+
+    @Benchmark
+    public Object instantiateAndInject() {
+        Object bean = instantiator.newInstance(args);
+        nameInjector.inject(bean, "name");
+        countInjector.inject(bean, 42);
+        return bean;
+    }
+
+    public static class Dependency {
+    }
+
+    public static class Bean {
+        private final Dependency dependency;
+        private String name;
+        private Integer count;
+
+        public Bean(Dependency dependency) {
+            this.dependency = dependency;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.springmock.benchmarks;
+
+import com.springmock.ApplicationContext;
+import com.springmock.benchmarks.beans.Controller;
+import com.springmock.benchmarks.beans.Repository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of looking up beans by class, by interface and by name, from several threads at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class BeanLookupBenchmark {
+
+    private ApplicationContext ctx;
+
+    @Setup
+    public void setUp() {
+        ctx = new ApplicationContext("com.springmock.benchmarks.beans");
+    }
+
+    @Benchmark
+    public Object getBeanByClass() {
+        return ctx.getBean(Controller.class);
+    }
+
+    @Benchmark
+    public Object getBeanByInterface() {
+        return ctx.getBean(Repository.class);
+    }
+
+    @Benchmark
+    public Object getBeanByName() {
+        return ctx.getBeanByName("service");
+    }
+
+    @Benchmark
+    public Object getBeanByQualifiedName() {
+        return ctx.getBeanByName("com.springmock.benchmarks.beans.Controller");
+    }
+}
@@ -0,0 +1,68 @@
+package com.springmock.benchmarks;
+
+import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.accessors.BeanAccessorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of a context over component packages of different sizes. Besides the bundled components
+ * and the small fixture package, the packages created by the {@code generateComponents} task are used, holding 100,
+ * 1000 and 5000 synthetic components. Run with {@code -prof gc} to measure the memory allocated per context.
+ * <p>The {@code accessors} parameter compares the component factories generated at build time with the method handle
+ * and reflective accessors.</p>
+ * <p>{@link #constructChild()} creates a child of a context over the package, which only adds the small fixture
+ * package, so its cost should not depend on the size of the parent.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextBenchmark {
+
+    @Param({"com.springmock.components", "com.springmock.benchmarks.beans", "com.springmock.generated.s100",
+            "com.springmock.generated.s1000", "com.springmock.generated.s5000"})
+    public String packageName;
+
+    @Param({"generated", "methodHandles", "reflective"})
+    public String accessors;
+
+    private ApplicationContext parent;
+
+    @Setup
+    public void setUp() {
+        parent = new ApplicationContext(configuration(packageName));
+    }
+
+    private ContextConfiguration configuration(String packageName) {
+        return new ContextConfiguration(packageName).accessorFactory(switch (accessors) {
+            case "methodHandles" -> BeanAccessorFactory.methodHandles();
+            case "reflective" -> BeanAccessorFactory.reflective();
+            default -> BeanAccessorFactory.generated();
+        });
+    }
+
+    @Benchmark
+    public ApplicationContext construct() {
+        return new ApplicationContext(configuration(packageName));
+    }
+
+    @Benchmark
+    public ApplicationContext constructChild() {
+        return new ApplicationContext(configuration("com.springmock.benchmarks.beans").parent(parent));
+    }
+}
@@ -0,0 +1,129 @@
+package com.springmock.benchmarks;
+
+import com.springmock.annotations.MultiValue;
+import com.springmock.annotations.resolvers.MultiValueResolver;
+import com.springmock.properties.PropertySnapshot;
+import com.springmock.properties.PropertySource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link MultiValueResolver#resolve(Field, PropertySnapshot)} on large lists, sets, maps and arrays. The
+ * properties hold generated content of the configured size, either on the heap or in a
+ * {@link PropertySource#mappedFile(Path) memory-mapped file}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiValueResolverBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    @Param({"heap", "mapped"})
+    public String source;
+
+    @MultiValue("numbers")
+    private List<Integer> list;
+    @MultiValue("numbers")
+    private Set<Integer> set;
+    @MultiValue(value = "spacedMap", delimiter = ";", keyValueDelimiter = "=")
+    private Map<String, Integer> map;
+    @MultiValue("numbers")
+    private int[] primitiveArray;
+    @MultiValue("numbersDouble")
+    private Double[] objectArray;
+
+    private PropertySnapshot properties;
+    private Path file;
+    private Field listField;
+    private Field setField;
+    private Field mapField;
+    private Field primitiveArrayField;
+    private Field objectArrayField;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException, IOException {
+        Map<String, String> content = Map.of(
+                "numbers", IntStream.range(0, size)
+                        .mapToObj(Integer::toString)
+                        .collect(Collectors.joining(",")),
+                "numbersDouble", IntStream.range(0, size)
+                        .mapToObj(i -> i + ".5")
+                        .collect(Collectors.joining(", ")),
+                "spacedMap", IntStream.range(0, size)
+                        .mapToObj(i -> "key" + i + " = " + i)
+                        .collect(Collectors.joining("; ")));
+        if (source.equals("mapped")) {
+            file = Files.createTempFile("springmock-benchmark", ".conf");
+            Files.write(file, content.entrySet().stream()
+                    .map(entry -> entry.getKey() + "=" + entry.getValue())
+                    .collect(Collectors.toList()));
+            properties = PropertySnapshot.load(List.of(PropertySource.mappedFile(file)));
+        } else {
+            properties = PropertySnapshot.load(List.of(PropertySource.of("benchmark", content)));
+        }
+        listField = MultiValueResolverBenchmark.class.getDeclaredField("list");
+        setField = MultiValueResolverBenchmark.class.getDeclaredField("set");
+        mapField = MultiValueResolverBenchmark.class.getDeclaredField("map");
+        primitiveArrayField = MultiValueResolverBenchmark.class.getDeclaredField("primitiveArray");
+        objectArrayField = MultiValueResolverBenchmark.class.getDeclaredField("objectArray");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (file != null) {
+            properties = null;
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public Object resolveList() {
+        return MultiValueResolver.resolve(listField, properties);
+    }
+
+    @Benchmark
+    public Object resolveSet() {
+        return MultiValueResolver.resolve(setField, properties);
+    }
+
+    @Benchmark
+    public Object resolveMap() {
+        return MultiValueResolver.resolve(mapField, properties);
+    }
+
+    @Benchmark
+    public Object resolvePrimitiveArray() {
+        return MultiValueResolver.resolve(primitiveArrayField, properties);
+    }
+
+    @Benchmark
+    public Object resolveObjectArray() {
+        return MultiValueResolver.resolve(objectArrayField, properties);
+    }
+}
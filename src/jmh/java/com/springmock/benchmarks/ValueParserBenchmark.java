@@ -0,0 +1,66 @@
+package com.springmock.benchmarks;
+
+import com.springmock.annotations.resolvers.ValueParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ValueParser#convert(String, Class)} for every supported type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueParserBenchmark {
+    private static final Map<String, Object[]> SAMPLES = Map.ofEntries(
+            Map.entry("Boolean", new Object[]{Boolean.class, "true"}),
+            Map.entry("Character", new Object[]{Character.class, "c"}),
+            Map.entry("Byte", new Object[]{Byte.class, "12"}),
+            Map.entry("Short", new Object[]{Short.class, "1234"}),
+            Map.entry("Integer", new Object[]{Integer.class, "123456"}),
+            Map.entry("Long", new Object[]{Long.class, "1234567890123"}),
+            Map.entry("Float", new Object[]{Float.class, "3.25"}),
+            Map.entry("Double", new Object[]{Double.class, "3.14159"}),
+            Map.entry("String", new Object[]{String.class, "value"}),
+            Map.entry("Duration", new Object[]{Duration.class, "PT15M"}),
+            Map.entry("BigDecimal", new Object[]{BigDecimal.class, "12345.6789"}),
+            Map.entry("BigInteger", new Object[]{BigInteger.class, "123456789012345678901234567890"}),
+            Map.entry("URI", new Object[]{URI.class, "https://example.com/path?query=1"}));
+
+    @Param({"Boolean", "Character", "Byte", "Short", "Integer", "Long", "Float", "Double", "String", "Duration",
+            "BigDecimal", "BigInteger", "URI"})
+    public String type;
+
+    private Class<?> clazz;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        Object[] sample = SAMPLES.get(type);
+        clazz = (Class<?>) sample[0];
+        content = (String) sample[1];
+    }
+
+    @Benchmark
+    public Object convert() {
+        return ValueParser.convert(content, clazz);
+    }
+}
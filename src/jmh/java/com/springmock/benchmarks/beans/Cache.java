@@ -0,0 +1,12 @@
+package com.springmock.benchmarks.beans;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class Cache {
+    public final Repository repository;
+
+    public Cache(Repository repository) {
+        this.repository = repository;
+    }
+}
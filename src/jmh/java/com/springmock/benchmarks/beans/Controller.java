@@ -0,0 +1,15 @@
+package com.springmock.benchmarks.beans;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+import com.springmock.annotations.MultiValue;
+
+import java.util.List;
+
+@Component
+public class Controller {
+    @Autowired
+    public Service service;
+    @MultiValue("numbers")
+    public List<Integer> numbers;
+}
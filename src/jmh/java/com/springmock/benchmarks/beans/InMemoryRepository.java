@@ -0,0 +1,7 @@
+package com.springmock.benchmarks.beans;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class InMemoryRepository implements Repository {
+}
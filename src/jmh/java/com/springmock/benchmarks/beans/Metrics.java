@@ -0,0 +1,12 @@
+package com.springmock.benchmarks.beans;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+
+@Component
+public class Metrics {
+    @Autowired
+    public Cache cache;
+    @Autowired
+    public Controller controller;
+}
@@ -0,0 +1,4 @@
+package com.springmock.benchmarks.beans;
+
+public interface Repository {
+}
@@ -0,0 +1,17 @@
+package com.springmock.benchmarks.beans;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.Value;
+
+@Component("service")
+public class Service {
+    public final Repository repository;
+    public final Cache cache;
+    @Value("number")
+    public Integer number;
+
+    public Service(Repository repository, Cache cache) {
+        this.repository = repository;
+        this.cache = cache;
+    }
+}
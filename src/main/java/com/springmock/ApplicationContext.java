@@ -1,27 +1,58 @@
 package com.springmock;
 
+import com.springmock.accessors.BeanAccessorFactory;
 import com.springmock.annotations.Autowired;
 import com.springmock.annotations.Component;
 import com.springmock.annotations.MultiValue;
+import com.springmock.annotations.PostConstruct;
+import com.springmock.annotations.PreDestroy;
+import com.springmock.annotations.Reset;
+import com.springmock.annotations.Scope;
 import com.springmock.annotations.Value;
-import com.springmock.annotations.resolvers.MultiValueResolver;
-import com.springmock.annotations.resolvers.ValueResolver;
-import com.springmock.exceptions.UnableToCreateBeanException;
-import com.springmock.exceptions.UnableToSetValueException;
-import static java.util.Comparator.comparingLong;
+import com.springmock.exceptions.BeanLifecycleException;
+import com.springmock.exceptions.BeanNameConflictException;
+import com.springmock.exceptions.BeanNotFoundException;
+import com.springmock.exceptions.CyclicDependencyException;
+import com.springmock.exceptions.MissingPropertiesException;
+import com.springmock.exceptions.NoUniqueBeanException;
+import com.springmock.exceptions.PropertySourceException;
+import com.springmock.properties.PropertyChangeListener;
+import com.springmock.properties.PropertySnapshot;
+import com.springmock.properties.PropertySource;
+import com.springmock.startup.ShutdownReport;
+import com.springmock.startup.StartupReport;
 import org.reflections.Reflections;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Parameter;
-import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -33,11 +64,38 @@ import java.util.stream.Collectors;
  * <p>The {@link ApplicationContext} injects dependencies into fields annotated with the {@link Autowired} annotation.
  * Finally, it sets the values of fields annotated with the {@link Value} and {@link MultiValue} annotation with the
  * specified value of environment variable.</p>
+ * <p>A context may be created as the child of another context with {@link ContextConfiguration#parent}. The child
+ * creates only the components its parent does not define and resolves every other dependency from the parent, whose
+ * beans are shared without being copied.</p>
+ * <p>The created singleton beans are frozen into an immutable {@link BeanRegistry} that {@link #getBean(Class)} reads
+ * without locking or allocating. The registry is replaced, never modified, when lazy beans are created later on, and
+ * only the new beans are copied into the replacement.</p>
+ * <p>Components can be {@link #registerComponent(Class) registered} and {@link #unregisterComponent(Class)
+ * unregistered} while the context is running. Only the beans whose wiring changes are created again, together with the
+ * beans depending on them, and the whole new wiring is published at once.</p>
+ * <p>Once all beans have been created and populated, the {@link PostConstruct} methods of the eager beans are started on
+ * the {@link ContextConfiguration#initExecutor(Executor) init executor}, in dependency order. The constructor returns
+ * without waiting for them, and {@link #awaitReady()} tells when they are done. Registrations, on the contrary,
+ * initialize the beans they create again before returning.</p>
+ * <p>{@link #close() Closing} the context calls the {@link PreDestroy} methods of its singleton beans in reverse
+ * dependency order, destroying independent beans concurrently.</p>
  */
 
-public class ApplicationContext {
+public class ApplicationContext implements AutoCloseable {
     private final String packageName;
-    private final Map<Class<?>, Object> beans;
+    private final ApplicationContext parent;
+    private final BeanAccessorFactory accessorFactory;
+    private final boolean lazyDefault;
+    private final Executor initExecutor;
+    private final Duration shutdownTimeout;
+    private volatile State state;
+    private final PropertyBindings bindings;
+    private final PropertyWatcher watcher;
+    private final StartupReport startupReport;
+    private final CompletableFuture<Void> ready;
+    private volatile ShutdownReport shutdownReport;
+    private final ReentrantLock wiringLock = new ReentrantLock();
+    private StartupRecorder recorder;
 
 
     /**
@@ -54,193 +112,1171 @@ public class ApplicationContext {
      * @param packageName the package to scan for beans
      */
     public ApplicationContext(String packageName) {
-        this.packageName = packageName;
-        List<Class<?>> orderedBeans = scan();
-        this.beans = createBeans(orderedBeans);
-        populate();
+        this(new ContextConfiguration(packageName));
+    }
+
+    /**
+     * Creates a new {@link ApplicationContext} with the specified configuration.
+     *
+     * @param configuration the configuration of the context
+     */
+    public ApplicationContext(ContextConfiguration configuration) {
+        this.packageName = configuration.getPackageName();
+        this.accessorFactory = configuration.getAccessorFactory();
+        this.parent = configuration.getParent();
+        this.lazyDefault = configuration.isLazy();
+        this.initExecutor = configuration.getInitExecutor();
+        this.shutdownTimeout = configuration.getShutdownTimeout();
+        this.recorder = configuration.isRecordStartup() ? StartupRecorder.create() : StartupRecorder.disabled();
+        ContextSnapshot snapshot = loadSnapshot(parent == null ? configuration.getSnapshot() : null);
+        StartupRecorder.Timing timing = recorder.phase(StartupReport.DEFINITIONS);
+        Map<Class<?>, BeanDefinition> definitions = createDefinitions(snapshot, lazyDefault);
+        State initial = new State(snapshot.getTypes(), definitions, new ConcurrentHashMap<>(), Map.of(),
+                BeanRegistry.EMPTY, new AtomicBoolean());
+        this.state = initial;
+        Set<Class<?>> eagerBeans = getEagerBeans(definitions);
+        timing.stop();
+        timing = recorder.phase(StartupReport.PROPERTIES);
+        this.bindings = new PropertyBindings(configuration.getPropertySources(), accessorFactory);
+        checkProperties(definitions.keySet());
+        timing.stop();
+        Executor executor = configuration.getExecutor();
+        if (executor == null) {
+            timing = recorder.phase(StartupReport.INSTANTIATION);
+            createBeans(initial, snapshot.getComponents(), eagerBeans);
+            timing.stop();
+            timing = recorder.phase(StartupReport.POPULATION);
+            populate(initial);
+            timing.stop();
+        } else {
+            createBeansInParallel(initial, TopologicalSort.getLevels(snapshot.getGraph()), eagerBeans, executor);
+        }
+        timing = recorder.phase(StartupReport.NAMES);
+        State named = initial.withNames(createNameIndex(definitions.keySet()));
+        this.state = named;
+        timing.stop();
+        timing = recorder.phase(StartupReport.REGISTRY);
+        synchronized (this) {
+            this.state = named.withRegistry(BeanRegistry.of(named.beans(), named.types()));
+        }
+        timing.stop();
+        this.watcher = configuration.isHotReload() ? watch(configuration.getPropertySources()) : null;
+        this.startupReport = recorder.report();
+        this.recorder = StartupRecorder.disabled();
+        this.ready = initialize(named, snapshot.getComponents().stream().filter(eagerBeans::contains).toList(),
+                null);
     }
 
     /**
      * Gets the dependencies of the specified bean.
      *
      * @param clazz the bean
-     * @param beans the list of beans in the application
+     * @param types the type index of the beans in the application
      * @return the list of dependencies of the bean
      */
-    static Set<Class<?>> getDependenciesOfBean(Class<?> clazz, Set<Class<?>> beans) {
-        Set<Class<?>> dependencies = new HashSet<>();
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.isAnnotationPresent(Autowired.class)) {
-                Class<?> fieldType = field.getType();
-                if (beans.contains(fieldType)) {
-                    dependencies.add(fieldType);
+    static Set<Class<?>> getDependenciesOfBean(Class<?> clazz, TypeIndex types) {
+        return InjectionPlan.of(clazz).getDependencies(types);
+    }
+
+    /**
+     * Gets the bean of the specified type. The type may be the class of the bean or any of its superclasses and
+     * interfaces. If no bean of this context is of the type, the bean is taken from the parent context.
+     *
+     * @param <T>   the type parameter
+     * @param clazz the type of the bean to get
+     * @return the bean object, or {@code null} if there is no bean of the type
+     * @throws NoUniqueBeanException if more than one bean is of the type
+     */
+    public <T> T getBean(Class<T> clazz) {
+        State current = state;
+        Object registered = current.registry().get(clazz);
+        if (registered != null) {
+            return (T) registered;
+        }
+        return (T) getBean(current, clazz);
+    }
+
+    /**
+     * Gets the bean of the specified type from the specified state of the context, creating it if it is lazy,
+     * prototype or pooled.
+     *
+     * @param current the state of the context
+     * @param clazz   the type of the bean to get
+     * @return the bean object, or {@code null} if there is no bean of the type
+     */
+    private Object getBean(State current, Class<?> clazz) {
+        Class<?> beanClass = current.types().resolve(clazz);
+        if (beanClass == null) {
+            return parent == null ? null : parent.getBean(clazz);
+        }
+        Object bean = current.beans().get(beanClass);
+        if (bean == null) {
+            BeanDefinition definition = current.definitions().get(beanClass);
+            if (definition != null) {
+                bean = definition.isSingleton() ? createLazily(current, definition)
+                        : createInstance(current, definition);
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Registers the specified component in the running context, or creates it again if it is already registered.
+     * <p>Registering a component changes what its class and its supertypes resolve to. Only the beans asking for one
+     * of these types are wired again, and with them every bean that depends on them, directly or not, as found in the
+     * reverse index of the dependencies. These beans are created, populated and initialized again, unless they are lazy
+     * and had not been created yet. All other beans are kept as they are.</p>
+     * <p>The new beans are created aside and published together with the new definitions and names in a single step,
+     * so concurrent callers of {@link #getBean(Class)} either see the context before or after the registration, never
+     * a mix of both. The registration runs synchronously: the {@link PostConstruct} methods of the new beans run on
+     * the init executor, in dependency order, while the caller is blocked until they are all done. The caller holds
+     * the registration lock while waiting, but not the monitor of the context. If any bean cannot be created or
+     * initialized, nothing is changed. Registrations are serialized with each other and with {@link #close()}, but not
+     * with {@link #getBean(Class)}, so the {@link PostConstruct} methods of the new beans may request other beans.
+     * Child contexts keep resolving their own components as they did before.</p>
+     * <p>The replaced beans are destroyed, as described in {@link #close()}, before the new beans are published. Their
+     * {@link PreDestroy} methods may fail or time out without failing the registration.</p>
+     *
+     * @param component the class of the component
+     * @throws CyclicDependencyException if the component introduces a cycle in the dependencies
+     * @throws MissingPropertiesException if a property of a bean created again is missing
+     * @throws NoUniqueBeanException if a bean asks for a type the component makes ambiguous
+     * @throws BeanLifecycleException if the initialization of a bean created again fails
+     */
+    public void registerComponent(Class<?> component) {
+        wiringLock.lock();
+        try {
+            State current = state;
+            Set<Class<?>> components = new HashSet<>(current.definitions().keySet());
+            components.add(component);
+            rewire(current, components, component);
+        } finally {
+            wiringLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the specified component from the running context. The beans depending on it, directly or not, are
+     * created again without it, as described in {@link #registerComponent(Class)}. The removed bean itself is
+     * destroyed and no longer receives reloaded properties.
+     *
+     * @param component the class of the component
+     * @return true if the component was registered in this context
+     */
+    public boolean unregisterComponent(Class<?> component) {
+        wiringLock.lock();
+        try {
+            State current = state;
+            if (!current.definitions().containsKey(component)) {
+                return false;
+            }
+            Set<Class<?>> components = new HashSet<>(current.definitions().keySet());
+            components.remove(component);
+            rewire(current, components, component);
+            return true;
+        } finally {
+            wiringLock.unlock();
+        }
+    }
+
+    /**
+     * Wires the specified components, which differ from the components of the current state by a single component,
+     * and publishes the new state. The beans affected by the change are found through the type index and the reverse
+     * index of the dependencies, then created again in topological order. The replaced beans are destroyed before the
+     * new state is published, and the lazy beans that other threads created in the current state in the meantime are
+     * carried over to the new state when it is published.
+     *
+     * @param current    the current state
+     * @param components the new components of the context
+     * @param changed    the component added, replaced or removed
+     */
+    private void rewire(State current, Set<Class<?>> components, Class<?> changed) {
+        TypeIndex types = TypeIndex.of(components, parent == null ? null : parent.state.types());
+        Set<Class<?>> changedTypes = current.types().getChangedTypes(types, changed);
+        Set<Class<?>> affected = new HashSet<>();
+        affected.add(changed);
+        for (Class<?> clazz : current.definitions().keySet()) {
+            if (!Collections.disjoint(InjectionPlan.of(clazz).getDependencyTypes(), changedTypes)) {
+                affected.add(clazz);
+            }
+        }
+        Map<Class<?>, Set<Class<?>>> dependents = getDependents(current.definitions());
+        Deque<Class<?>> pending = new ArrayDeque<>(affected);
+        while (!pending.isEmpty()) {
+            for (Class<?> dependent : dependents.getOrDefault(pending.pop(), Set.of())) {
+                if (affected.add(dependent)) {
+                    pending.push(dependent);
+                }
+            }
+        }
+        Map<Class<?>, BeanDefinition> definitions = new HashMap<>(current.definitions());
+        definitions.keySet().removeAll(affected);
+        Map<Class<?>, Set<Class<?>>> graph = new HashMap<>();
+        for (Class<?> clazz : affected) {
+            if (components.contains(clazz)) {
+                InjectionPlan plan = InjectionPlan.of(clazz);
+                Set<Class<?>> dependencies = plan.getDependencies(types);
+                definitions.put(clazz, new BeanDefinition(clazz, dependencies, plan.getConstructor(types),
+                        BeanDefinition.isLazy(clazz, lazyDefault)));
+                graph.put(clazz, dependencies.stream().filter(affected::contains).collect(Collectors.toSet()));
+            }
+        }
+        List<Class<?>> sorted = TopologicalSort.getSorted(graph);
+        checkProperties(graph.keySet());
+        Map<Class<?>, Object> beans = new ConcurrentHashMap<>(current.beans());
+        beans.keySet().removeAll(affected);
+        State next = new State(types, Map.copyOf(definitions), beans, createNameIndex(definitions.keySet()),
+                BeanRegistry.EMPTY, new AtomicBoolean());
+        List<Class<?>> created = new ArrayList<>();
+        Set<Class<?>> initialized = ConcurrentHashMap.newKeySet();
+        try {
+            for (Class<?> clazz : sorted) {
+                BeanDefinition definition = next.definitions().get(clazz);
+                if (definition.isSingleton() && (!definition.isLazy() || current.beans().containsKey(clazz))) {
+                    beans.put(clazz, instantiate(next, definition));
+                    created.add(clazz);
                 }
             }
+            for (Class<?> clazz : created) {
+                populateBean(next, beans.get(clazz));
+            }
+            initialize(next, created, initialized).join();
+        } catch (CompletionException e) {
+            discard(current, next, created, initialized);
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } catch (RuntimeException e) {
+            discard(current, next, created, initialized);
+            throw e;
         }
-        for (Constructor<?> constructor : clazz.getConstructors()) {
-            if (constructor.getParameterCount() == 0) { //skip default constructor
+        Map<Class<?>, Object> replaced = new HashMap<>();
+        for (Class<?> clazz : affected) {
+            Object bean = current.beans().get(clazz);
+            if (bean != null) {
+                replaced.put(clazz, bean);
+            }
+        }
+        destroy(current.definitions(), replaced, new CopyOnWriteArrayList<>()).join();
+        Map<Class<?>, Object> stragglers = new HashMap<>();
+        synchronized (this) {
+            current.beans().forEach((clazz, bean) -> {
+                if (!affected.contains(clazz)) {
+                    beans.putIfAbsent(clazz, bean);
+                } else if (replaced.get(clazz) != bean) {
+                    stragglers.put(clazz, bean);
+                }
+            });
+            current.retired().set(true);
+            state = next.withRegistry(BeanRegistry.of(beans, types));
+        }
+        replaced.values().forEach(bindings::unbind);
+        stragglers.values().forEach(bindings::unbind);
+        destroy(current.definitions(), stragglers, new CopyOnWriteArrayList<>()).join();
+    }
+
+    /**
+     * Drops the beans created by a failed registration. The beans that are still defined the same way in the current
+     * state were created lazily on behalf of both states and are handed over to the current state. The other beans are
+     * unbound from the property reloads, and those that have been initialized are destroyed.
+     *
+     * @param current     the current state, which is kept
+     * @param next        the state of the failed registration
+     * @param created     the beans created again by the registration
+     * @param initialized the beans whose initialization completed
+     */
+    private void discard(State current, State next, List<Class<?>> created, Set<Class<?>> initialized) {
+        Map<Class<?>, Object> discarded = new HashMap<>();
+        Map<Class<?>, Object> adopted = new HashMap<>();
+        next.beans().forEach((clazz, bean) -> {
+            if (current.beans().get(clazz) == bean) {
+                return;
+            }
+            BeanDefinition definition = next.definitions().get(clazz);
+            if (current.definitions().get(clazz) == definition) {
+                adopt(current, definition, bean);
+                adopted.put(clazz, bean);
+                return;
+            }
+            bindings.unbind(bean);
+            if (!created.contains(clazz) || initialized.contains(clazz)) {
+                discarded.put(clazz, bean);
+            }
+        });
+        publishRegistry(adopted);
+        destroy(next.definitions(), discarded, new CopyOnWriteArrayList<>()).join();
+    }
+
+    /**
+     * Starts the {@link PostConstruct} methods of the specified beans on the init executor. The initialization of a
+     * bean starts once the beans it depends on are initialized, so that independent beans are initialized concurrently
+     * while dependencies always come first. Beans without {@link PostConstruct} methods are initialized as soon as
+     * their dependencies are.
+     *
+     * @param current      the state holding the beans
+     * @param orderedBeans the created beans, sorted topologically
+     * @param initialized  the set every bean is added to once its initialization completed, or {@code null}
+     * @return the stage completing once all beans are initialized
+     */
+    private CompletableFuture<Void> initialize(State current, List<Class<?>> orderedBeans,
+                                               Set<Class<?>> initialized) {
+        Map<Class<?>, CompletableFuture<Void>> initializations = new HashMap<>();
+        for (Class<?> clazz : orderedBeans) {
+            List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+            for (Class<?> dependency : current.definitions().get(clazz).getDependencies()) {
+                CompletableFuture<Void> initialization = initializations.get(dependency);
+                if (initialization != null) {
+                    dependencies.add(initialization);
+                }
+            }
+            boolean passive = InjectionPlan.of(clazz).getPostConstructMethods().isEmpty();
+            if (passive && dependencies.isEmpty()) {
+                if (initialized != null) {
+                    initialized.add(clazz);
+                }
                 continue;
             }
-            for (Parameter parameter : constructor.getParameters()) {
-                Class<?> parameterType = parameter.getType();
-                if (beans.contains(parameterType)) {
-                    dependencies.add(parameterType);
+            CompletableFuture<Void> after = CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new));
+            Object bean = current.beans().get(clazz);
+            CompletableFuture<Void> initialization = passive ? after
+                    : after.thenComposeAsync(ignored -> BeanLifecycle.postConstruct(bean), initExecutor);
+            initializations.put(clazz, initialized == null ? initialization
+                    : initialization.thenRun(() -> initialized.add(clazz)));
+        }
+        return CompletableFuture.allOf(initializations.values().toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Starts the {@link PreDestroy} methods of the specified singleton beans, in reverse topological order. The
+     * destruction of a bean starts once all beans depending on it are destroyed, whether they succeeded or not. Beans
+     * without {@link PreDestroy} methods are destroyed as soon as their dependents are.
+     *
+     * @param definitions the definitions of the beans
+     * @param destroyed   the beans to destroy, keyed by their class
+     * @param shutdowns   the list the shutdown of every destroyed bean is added to
+     * @return the stage completing once all beans are destroyed, never exceptionally
+     */
+    private CompletableFuture<Void> destroy(Map<Class<?>, BeanDefinition> definitions,
+                                            Map<Class<?>, Object> destroyed,
+                                            List<ShutdownReport.BeanShutdown> shutdowns) {
+        if (destroyed.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Map<Class<?>, Object> beans = Map.copyOf(destroyed);
+        Map<Class<?>, Set<Class<?>>> graph = new HashMap<>(beans.size() * 2);
+        for (Class<?> clazz : beans.keySet()) {
+            Set<Class<?>> dependencies = new HashSet<>(definitions.get(clazz).getDependencies());
+            dependencies.retainAll(beans.keySet());
+            graph.put(clazz, dependencies);
+        }
+        List<Class<?>> sorted = TopologicalSort.getSorted(graph);
+        Map<Class<?>, Set<Class<?>>> dependents = getDependents(definitions);
+        Map<Class<?>, CompletableFuture<Void>> destructions = new HashMap<>();
+        for (int i = sorted.size() - 1; i >= 0; i--) {
+            Class<?> clazz = sorted.get(i);
+            List<CompletableFuture<Void>> after = new ArrayList<>();
+            for (Class<?> dependent : dependents.getOrDefault(clazz, Set.of())) {
+                CompletableFuture<Void> destruction = destructions.get(dependent);
+                if (destruction != null) {
+                    after.add(destruction);
                 }
             }
+            boolean passive = InjectionPlan.of(clazz).getPreDestroyMethods().isEmpty();
+            if (passive && after.isEmpty()) {
+                continue;
+            }
+            CompletableFuture<Void> previous = CompletableFuture.allOf(after.toArray(CompletableFuture[]::new));
+            Object bean = beans.get(clazz);
+            destructions.put(clazz, passive ? previous
+                    : previous.thenCompose(ignored -> destroyBean(bean, shutdowns)));
         }
-        return dependencies;
+        return CompletableFuture.allOf(destructions.values().toArray(CompletableFuture[]::new));
     }
 
     /**
-     * Gets the bean of the specified type.
+     * Calls the {@link PreDestroy} methods of a bean on the init executor and records how long they took and how they
+     * ended. The returned stage completes normally even if the methods fail or time out.
      *
-     * @param <T>   the type parameter
-     * @param clazz the type of the bean to get
-     * @return the bean object
+     * @param bean      the bean
+     * @param shutdowns the list the shutdown of the bean is added to
+     * @return the stage completing once the methods are done or timed out
      */
-    public <T> T getBean(Class<T> clazz) {
-        return (T) beans.get(clazz);
+    private CompletableFuture<Void> destroyBean(Object bean, List<ShutdownReport.BeanShutdown> shutdowns) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> BeanLifecycle.preDestroy(bean), initExecutor)
+                .thenCompose(Function.identity())
+                .orTimeout(shutdownTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                .handle((value, e) -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    ShutdownReport.Outcome outcome = cause == null ? ShutdownReport.Outcome.DESTROYED
+                            : cause instanceof TimeoutException ? ShutdownReport.Outcome.TIMED_OUT
+                            : ShutdownReport.Outcome.FAILED;
+                    shutdowns.add(new ShutdownReport.BeanShutdown(bean.getClass(), System.nanoTime() - start,
+                            outcome, cause));
+                    return null;
+                });
+    }
+
+    /**
+     * Builds the reverse index of the dependencies of the specified definitions.
+     *
+     * @param definitions the definitions of the components
+     * @return the map of every component to the components depending on it
+     */
+    private static Map<Class<?>, Set<Class<?>>> getDependents(Map<Class<?>, BeanDefinition> definitions) {
+        Map<Class<?>, Set<Class<?>>> dependents = new HashMap<>(definitions.size() * 2);
+        for (BeanDefinition definition : definitions.values()) {
+            for (Class<?> dependency : definition.getDependencies()) {
+                dependents.computeIfAbsent(dependency, d -> new HashSet<>()).add(definition.getType());
+            }
+        }
+        return dependents;
+    }
+
+    /**
+     * Gets the initialization of the eager beans of the context. It completes once the {@link PostConstruct} methods
+     * of all eager beans, and the stages they returned, are done. Beans can be requested before, but their
+     * initialization may still be running. Lazy, prototype and pooled beans are initialized whenever they are created,
+     * before they are returned. The beans created again by {@link #registerComponent(Class)} and
+     * {@link #unregisterComponent(Class)} are initialized before these methods return, so this stage does not cover
+     * them.
+     *
+     * @return the stage completing once the context is ready, exceptionally with a {@link BeanLifecycleException} if
+     * the initialization of any bean failed
+     */
+    public CompletableFuture<Void> awaitReady() {
+        return ready;
+    }
+
+    /**
+     * Closes the context. The property files are no longer watched and the {@link PreDestroy} methods of the singleton
+     * beans that have been created are called. A bean is destroyed only once every bean depending on it has been
+     * destroyed, and beans that do not depend on each other are destroyed concurrently on the
+     * {@link ContextConfiguration#initExecutor(Executor) init executor}. The methods of each bean may take at most the
+     * {@link ContextConfiguration#shutdownTimeout(Duration) shutdown timeout}, after which the context goes on without
+     * waiting for them.
+     * <p>A failing or timed out bean does not stop the shutdown: all beans are destroyed before the failures are
+     * reported. Prototype and pooled instances are not destroyed, neither are the beans of the parent context. The
+     * beans must not be used after the context has been closed. Closing the context again does nothing. Closing waits
+     * for a running registration, but does not block {@link #getBean(Class)}.</p>
+     *
+     * @throws BeanLifecycleException if the destruction of any bean failed or timed out, listing these beans, with the
+     *                                 failures of the beans attached as suppressed exceptions
+     * @see #getShutdownReport()
+     */
+    @Override
+    public void close() {
+        wiringLock.lock();
+        try {
+            shutDown();
+        } finally {
+            wiringLock.unlock();
+        }
+    }
+
+    private void shutDown() {
+        if (shutdownReport != null) {
+            return;
+        }
+        long started = System.nanoTime();
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException ignored) {
+                // the watch service is unusable anyway, and its thread stops once it notices
+            }
+        }
+        ready.handle((value, e) -> null).completeOnTimeout(null, shutdownTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                .join();
+        List<ShutdownReport.BeanShutdown> shutdowns = new CopyOnWriteArrayList<>();
+        State current = state;
+        destroy(current.definitions(), current.beans(), shutdowns).join();
+        shutdownReport = new ShutdownReport(System.nanoTime() - started, shutdowns);
+        List<ShutdownReport.BeanShutdown> failures = shutdownReport.getFailures();
+        if (!failures.isEmpty()) {
+            BeanLifecycleException exception = new BeanLifecycleException(failures.stream()
+                    .map(failure -> failure.type().getName() + " (" + failure.failure() + ")")
+                    .collect(Collectors.joining(", ", "Shutdown failed for ", "")));
+            failures.stream().map(ShutdownReport.BeanShutdown::failure).filter(Objects::nonNull)
+                    .forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    /**
+     * Gets the timings recorded while the context was closed.
+     *
+     * @return the shutdown report, or {@code null} if the context has not been closed
+     */
+    public ShutdownReport getShutdownReport() {
+        return shutdownReport;
+    }
+
+    /**
+     * Gets the parent of the context.
+     *
+     * @return the parent context, or {@code null} if the context has no parent
+     */
+    public ApplicationContext getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets the timings recorded while the context was started. Beans created after the startup, such as lazy beans,
+     * are not part of the report.
+     *
+     * @return the startup report, or {@code null} if the startup was not
+     * {@link ContextConfiguration#recordStartup(boolean) recorded}
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
+
+    /**
+     * Gets the properties currently injected into {@link Value} and {@link MultiValue} fields.
+     *
+     * @return the current properties
+     */
+    public PropertySnapshot getProperties() {
+        return bindings.getProperties();
+    }
+
+    /**
+     * Loads the property sources again. The {@link Value} and {@link MultiValue} fields of the singleton beans using a
+     * changed property are injected again, fields of other beans are not touched. If any changed property cannot be
+     * resolved, no field is changed and the previous properties stay in effect. With
+     * {@link ContextConfiguration#hotReload(boolean) hot reload} enabled, this is done automatically whenever a
+     * property file changes.
+     *
+     * @return the names of the changed properties
+     */
+    public Set<String> reloadProperties() {
+        return bindings.reload();
+    }
+
+    /**
+     * Adds a listener notified whenever a reload of the properties changed any property. An exception thrown by the
+     * listener is handed to the uncaught exception handler of the reloading thread, without failing the reload.
+     *
+     * @param listener the listener
+     */
+    public void addPropertyChangeListener(PropertyChangeListener listener) {
+        bindings.addListener(listener);
+    }
+
+    /**
+     * Hands an instance of a {@link Scope#POOLED pooled} bean back to the context. The {@link Reset} methods of the
+     * instance are called and the instance is kept for reuse, unless the pool is already full. The instance must not
+     * be used by the caller afterwards. Instances of beans of the parent context are handed back to the parent,
+     * instances of other beans are ignored.
+     *
+     * @param bean the instance obtained from {@link #getBean(Class)}
+     * @throws BeanLifecycleException if a reset method fails
+     */
+    public void release(Object bean) {
+        BeanDefinition definition = state.definitions().get(bean.getClass());
+        if (definition == null && parent != null) {
+            parent.release(bean);
+            return;
+        }
+        if (definition == null || definition.getPool() == null) {
+            return;
+        }
+        for (Method reset : InjectionPlan.of(bean.getClass()).getResetMethods()) {
+            try {
+                reset.invoke(bean);
+            } catch (IllegalAccessException e) {
+                throw new BeanLifecycleException("Reset of " + bean.getClass().getName() + " failed: " + e, e);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getTargetException();
+                throw new BeanLifecycleException("Reset of " + bean.getClass().getName() + " failed: " + cause, cause);
+            }
+        }
+        definition.getPool().release(bean);
     }
 
     /**
-     * Gets the map of beans that have been created.
+     * Gets the singleton beans that have been created. Lazy beans are part of the map returned once they have been
+     * first used, prototype and pooled beans are never part of it. The beans of the parent context are not part of it
+     * either. The map is an unmodifiable snapshot, safe to read from any thread.
      *
-     * @return the map of beans
+     * @return the unmodifiable map of beans, keyed by their class
      */
     public Map<Class<?>, Object> getBeans() {
-        return beans;
+        return state.registry().getBeans();
     }
 
     /**
-     * Gets the bean with the specified name.
+     * Gets the bean with the specified name. A bean can be found by the name given in its {@link Component}
+     * annotation, or by the simple name of its class if none is given, by the fully qualified name of its class and by
+     * any of its aliases. If no bean of this context has the name, the bean is looked up in the parent context.
      *
      * @param name the name of the bean to get
-     * @return the bean
+     * @return the bean, or {@code null} if there is no bean with the name
      */
 
     public Object getBeanByName(String name) {
-        return beans.entrySet()
-                .stream()
-                .collect(
-                        Collectors.toMap(o -> o.getKey().getSimpleName(),
-                                Map.Entry::getValue))
-                .get(name);
+        Class<?> clazz = state.names().get(name);
+        if (clazz == null) {
+            return parent == null ? null : parent.getBeanByName(name);
+        }
+        return getBean(clazz);
     }
 
     /**
-     * Gets the number of parameters of the specified constructor that can be injected.
+     * Gets the bean with the specified name and type.
      *
-     * @param constructor the constructor
-     * @return the number of parameters that can be injected
+     * @param <T>   the type parameter
+     * @param name  the name of the bean to get, as described in {@link #getBeanByName(String)}
+     * @param clazz the expected type of the bean
+     * @return the bean, or {@code null} if there is no bean with the name
+     * @throws BeanNotFoundException if the bean with the name is not of the expected type
      */
-    private long getNumberParamsThatCanBeInjected(Constructor<?> constructor, List<Class<?>> beansList) {
-        return Arrays.stream(constructor.getParameters())
-                .filter(o -> beansList.contains(o.getType())).count();
+    public <T> T getBean(String name, Class<T> clazz) {
+        Object bean = getBeanByName(name);
+        if (bean != null && !clazz.isInstance(bean)) {
+            throw new BeanNotFoundException(
+                    String.format("Bean '%s' is of type %s, not %s", name, bean.getClass().getName(), clazz.getName()));
+        }
+        return clazz.cast(bean);
     }
 
     /**
-     * Creates the beans by finding the constructor with the most dependencies that can be satisfied and then creating
-     * an instance of the bean using that constructor.
+     * Creates the index of the names of the beans, used by {@link #getBeanByName(String)}.
      *
-     * @return Map of beans, where K is
+     * @param components the components of the application
+     * @return the map of names to the classes of the beans
+     * @throws BeanNameConflictException if two beans share a name
      */
-    private Map<Class<?>, Object> createBeans(List<Class<?>> orderedBeans) {
-        //this map is needed to keep the beans that will be used in constructor of another bean via injection,
-        //because it is not possible to get the this.beans since it is null
-        Map<Class<?>, Object> beans = new HashMap<>();
-        orderedBeans
-                .forEach(clazz -> {
-                    try {
-                        Constructor<?> constructor = Arrays.stream(clazz.getConstructors())
-                                .max(comparingLong(ctor -> getNumberParamsThatCanBeInjected(ctor, orderedBeans)))
-                                .orElseThrow();
-                        Object[] params = Arrays.stream(constructor.getParameters())
-                                .map(Parameter::getType)
-                                .map(beans::get)
-                                .toArray();
-                        beans.put(clazz, constructor.newInstance(params));
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        throw new UnableToCreateBeanException(e.getMessage());
-                    }
-                });
-        return beans;
+    private static Map<String, Class<?>> createNameIndex(Set<Class<?>> components) {
+        Map<String, Class<?>> names = new HashMap<>(components.size() * 4);
+        for (Class<?> clazz : components) {
+            Component component = clazz.getAnnotation(Component.class);
+            String name = component == null || component.value().isEmpty() ? clazz.getSimpleName() : component.value();
+            registerName(names, name, clazz);
+            if (!name.equals(clazz.getName())) {
+                registerName(names, clazz.getName(), clazz);
+            }
+            if (component != null) {
+                for (String alias : component.aliases()) {
+                    registerName(names, alias, clazz);
+                }
+            }
+        }
+        return Map.copyOf(names);
+    }
 
+    private static void registerName(Map<String, Class<?>> names, String name, Class<?> clazz) {
+        Class<?> existing = names.putIfAbsent(name, clazz);
+        if (existing != null && existing != clazz) {
+            throw new BeanNameConflictException(
+                    String.format("Name '%s' is used by both %s and %s", name, existing.getName(), clazz.getName()));
+        }
     }
 
+    /**
+     * Creates the definitions of the components from the resolved wiring plan.
+     *
+     * @param snapshot    the wiring plan of the components
+     * @param lazyDefault whether components of the context are lazy by default
+     * @return the map of components to their definitions
+     */
+    private static Map<Class<?>, BeanDefinition> createDefinitions(ContextSnapshot snapshot, boolean lazyDefault) {
+        Map<Class<?>, BeanDefinition> definitions = new HashMap<>(snapshot.getGraph().size() * 2);
+        for (var entry : snapshot.getGraph().entrySet()) {
+            Class<?> clazz = entry.getKey();
+            definitions.put(clazz, new BeanDefinition(clazz, entry.getValue(), snapshot.getConstructor(clazz),
+                    BeanDefinition.isLazy(clazz, lazyDefault)));
+        }
+        return Map.copyOf(definitions);
+    }
 
     /**
-     * Scans the package specified in the constructor for classes annotated with {@link Component}.
+     * Checks that every property injected into a {@link Value} or {@link MultiValue} field of any bean is defined,
+     * including the fields of lazy, prototype and pooled beans.
      *
-     * @return A list of classes annotated with {@link Component} sorted topologically {@link TopologicalSort} according
-     * to their dependencies.
+     * @param components the components whose fields are checked
+     * @throws MissingPropertiesException if any property is missing, listing all missing properties
      */
-    private List<Class<?>> scan() {
-        Reflections reflections = new Reflections(this.packageName);
-        Set<Class<?>> components = reflections.getTypesAnnotatedWith(Component.class);
-        Map<Class<?>, Set<Class<?>>> graph = components.stream()
-                .collect(Collectors.toMap(Function.identity(), x -> getDependenciesOfBean(x, components)));
-        return TopologicalSort.getSorted(graph);
+    private void checkProperties(Collection<Class<?>> components) {
+        Map<String, List<String>> missing = new TreeMap<>();
+        for (Class<?> clazz : components) {
+            InjectionPlan plan = InjectionPlan.of(clazz);
+            for (Field field : plan.getValueFields()) {
+                checkProperty(field.getAnnotation(Value.class).value(), field, missing);
+            }
+            for (Field field : plan.getMultiValueFields()) {
+                checkProperty(field.getAnnotation(MultiValue.class).value(), field, missing);
+            }
+        }
+        if (!missing.isEmpty()) {
+            String message = missing.entrySet().stream()
+                    .map(entry -> entry.getKey() + " (used by " + String.join(", ", entry.getValue()) + ")")
+                    .collect(Collectors.joining(", ", "Missing properties: ", ""));
+            throw new MissingPropertiesException(message, List.copyOf(missing.keySet()));
+        }
+    }
+
+    private void checkProperty(String name, Field field, Map<String, List<String>> missing) {
+        if (!bindings.getProperties().contains(name)) {
+            missing.computeIfAbsent(name, n -> new ArrayList<>())
+                    .add(field.getDeclaringClass().getName() + '.' + field.getName());
+        }
     }
 
     /**
-     * Populates the fields of the beans with the appropriate values or dependencies. This method will initialize the
-     * fields annotated with the {@link Autowired}, {@link Value} and {@link MultiValue} annotations.
+     * Starts watching the files of the file-backed property sources.
+     *
+     * @param sources the property sources
+     * @return the watcher, or {@code null} if no source is backed by a file
+     * @throws PropertySourceException if the files cannot be watched
      */
-    private void populate() {
-        populateAutowiredFields();
-        populateValuesFields();
-        populateMultiValuesFields();
+    private PropertyWatcher watch(List<PropertySource> sources) {
+        List<Path> files = sources.stream().map(PropertySource::getFile).filter(Objects::nonNull).toList();
+        if (files.isEmpty()) {
+            return null;
+        }
+        try {
+            return new PropertyWatcher(files, bindings);
+        } catch (IOException e) {
+            throw new PropertySourceException("Unable to watch property files: " + e.getMessage());
+        }
     }
 
     /**
-     * Populates the dependencies of the beans by injecting the beans into the fields annotated with the
-     * {@link Autowired} annotation.
+     * Gets the beans that have to be created at startup. These are the singleton beans that are not lazy and all their
+     * singleton dependencies, even if the dependencies are lazy themselves. Prototype and pooled beans are created
+     * whenever they are requested or injected.
+     *
+     * @param definitions the definitions of the components
+     * @return the set of eager beans
      */
-    private void populateAutowiredFields() {
-        populateFields(field -> beans.get(field.getType()), (beanClass, field) -> field.isAnnotationPresent(Autowired.class) && beanClass != field.getType());
+    private static Set<Class<?>> getEagerBeans(Map<Class<?>, BeanDefinition> definitions) {
+        Set<Class<?>> eagerBeans = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        for (BeanDefinition definition : definitions.values()) {
+            if (definition.isSingleton() && !definition.isLazy() && eagerBeans.add(definition.getType())) {
+                pending.push(definition.getType());
+            }
+        }
+        while (!pending.isEmpty()) {
+            for (Class<?> dependency : definitions.get(pending.pop()).getDependencies()) {
+                if (definitions.get(dependency).isSingleton() && eagerBeans.add(dependency)) {
+                    pending.push(dependency);
+                }
+            }
+        }
+        return eagerBeans;
     }
 
     /**
-     * Sets the values of fields annotated with the {@link Value} annotation with the specified value of environment
-     * variable.
+     * Creates the beans one after another in the specified order.
+     *
+     * @param current      the state the beans are added to
+     * @param orderedBeans the beans sorted topologically, so that dependencies come first
+     * @param eagerBeans   the beans to create, the remaining beans are created lazily
      */
-    private void populateValuesFields() {
-        populateFields(ValueResolver::resolve, (beanClass, field) -> field.isAnnotationPresent(Value.class));
+    private void createBeans(State current, List<Class<?>> orderedBeans, Set<Class<?>> eagerBeans) {
+        for (Class<?> clazz : orderedBeans) {
+            if (eagerBeans.contains(clazz)) {
+                current.beans().put(clazz, instantiate(current, current.definitions().get(clazz)));
+            }
+        }
     }
 
     /**
-     * Sets the values of fields annotated with the {@link MultiValue} annotation with the specified value of
-     * environment variable.
+     * Creates and populates the beans level by level. The beans of a level depend only on beans of previous levels,
+     * so all beans of a level are created on the executor at once, then all of them are populated, before the next
+     * level is started.
+     *
+     * @param current    the state the beans are added to
+     * @param levels     the beans grouped by {@link TopologicalSort#getLevels(Map) level}
+     * @param eagerBeans the beans to create, the remaining beans are created lazily
+     * @param executor   the executor creating and populating the beans
      */
-    private void populateMultiValuesFields() {
-        populateFields(MultiValueResolver::resolve, (beanClass, field) -> field.isAnnotationPresent(MultiValue.class));
+    private void createBeansInParallel(State current, List<List<Class<?>>> levels, Set<Class<?>> eagerBeans,
+                                       Executor executor) {
+        Map<Class<?>, Object> beans = current.beans();
+        for (List<Class<?>> level : levels) {
+            List<Class<?>> eagerLevel = level.stream().filter(eagerBeans::contains).toList();
+            StartupRecorder.Timing timing = recorder.phase(StartupReport.INSTANTIATION);
+            runInParallel(eagerLevel,
+                    clazz -> beans.put(clazz, instantiate(current, current.definitions().get(clazz))), executor);
+            timing.stop();
+            timing = recorder.phase(StartupReport.POPULATION);
+            runInParallel(eagerLevel, clazz -> populateBean(current, beans.get(clazz)), executor);
+            timing.stop();
+        }
     }
 
+    private static void runInParallel(List<Class<?>> level, Consumer<Class<?>> task, Executor executor) {
+        if (level.isEmpty()) {
+            return;
+        }
+        if (level.size() == 1) {
+            task.accept(level.get(0));
+            return;
+        }
+        CompletableFuture<?>[] futures = level.stream()
+                .map(clazz -> CompletableFuture.runAsync(() -> task.accept(clazz), executor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
     /**
-     * Populate the fields of the beans that meet the given condition.
+     * Creates an instance of the bean using the constructor with the most dependencies that can be satisfied, chosen
+     * in its {@link BeanDefinition}. The dependencies of the bean must have been created before.
      *
-     * @param valueResolver A function that takes a field as input and returns the value that should be set.
-     * @param condition     A BiPredicate that takes the bean class and a field as input and returns true if the field
-     *                      should be processed, and false otherwise.
-     */
-    private void populateFields(Function<Field, Object> valueResolver, BiPredicate<Class<?>, Field> condition) {
-        for (var entry : beans.entrySet()) {
-            Class<?> beanClass = entry.getKey();
-            Object bean = entry.getValue();
-            for (Field field : bean.getClass().getDeclaredFields()) {
-                if (condition.test(beanClass, field)) {
-                    Object value = valueResolver.apply(field);
-                    try {
-                        field.setAccessible(true);
-                        field.set(bean, value);
-                    } catch (IllegalAccessException e) {
-                        throw new UnableToSetValueException(e.getMessage());
+     * @param current    the state the dependencies are taken from
+     * @param definition the definition of the bean
+     * @return the new instance, not yet populated
+     */
+    private Object instantiate(State current, BeanDefinition definition) {
+        Constructor<?> constructor = definition.getConstructor();
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] params = new Object[parameterTypes.length];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = resolveDependency(current, parameterTypes[i]);
+        }
+        StartupRecorder.Timing timing = recorder.bean(definition.getType(), StartupRecorder.BeanStep.CONSTRUCTION);
+        Object bean = accessorFactory.instantiator(constructor).newInstance(params);
+        timing.stop();
+        return bean;
+    }
+
+    /**
+     * Resolves the bean injected into a constructor parameter or field of the specified type. Singletons are taken
+     * from the created beans, prototype and pooled beans are created for every injection point. Beans of the parent
+     * context are taken from the parent.
+     *
+     * @param current the state the bean is taken from
+     * @param type    the type of the parameter or field
+     * @return the bean, or {@code null} if there is no bean of the type
+     */
+    private Object resolveDependency(State current, Class<?> type) {
+        Class<?> beanClass = current.types().resolve(type);
+        if (beanClass == null) {
+            return parent == null ? null : parent.getBean(type);
+        }
+        Object bean = current.beans().get(beanClass);
+        return bean != null ? bean : getBean(current, beanClass);
+    }
+
+    /**
+     * Creates a new, fully injected instance of a prototype bean, or takes an idle instance from the pool of a pooled
+     * bean.
+     *
+     * @param current    the state the dependencies are taken from
+     * @param definition the definition of the bean
+     * @return the instance
+     */
+    private Object createInstance(State current, BeanDefinition definition) {
+        BeanPool pool = definition.getPool();
+        Object bean = pool == null ? null : pool.acquire();
+        if (bean == null) {
+            bean = instantiate(current, definition);
+            populateBean(current, bean);
+            BeanLifecycle.postConstructNow(bean);
+        }
+        return bean;
+    }
+
+    /**
+     * Creates a lazy bean together with the dependencies that have not been created yet. The dependencies are created
+     * one after another in topological order, each of them through {@link #createSingleton(State, BeanDefinition)}, so
+     * the depth of the dependency graph does not matter.
+     *
+     * @param current    the state the bean is added to
+     * @param definition the definition of the lazy bean
+     * @return the created bean
+     */
+    private Object createLazily(State current, BeanDefinition definition) {
+        Map<Class<?>, BeanDefinition> definitions = current.definitions();
+        Map<Class<?>, Object> beans = current.beans();
+        Map<Class<?>, Set<Class<?>>> missing = new HashMap<>();
+        Deque<BeanDefinition> pending = new ArrayDeque<>();
+        pending.push(definition);
+        missing.put(definition.getType(), new HashSet<>());
+        while (!pending.isEmpty()) {
+            BeanDefinition next = pending.pop();
+            for (Class<?> dependency : next.getDependencies()) {
+                BeanDefinition dependencyDefinition = definitions.get(dependency);
+                if (dependencyDefinition.isSingleton() && !beans.containsKey(dependency)) {
+                    missing.get(next.getType()).add(dependency);
+                    if (missing.putIfAbsent(dependency, new HashSet<>()) == null) {
+                        pending.push(dependencyDefinition);
                     }
                 }
             }
         }
+        Map<Class<?>, Object> created = new HashMap<>();
+        Object bean = null;
+        for (Class<?> clazz : TopologicalSort.getSorted(missing)) {
+            bean = beans.get(clazz);
+            if (bean == null) {
+                bean = createSingleton(current, definitions.get(clazz));
+                if (bean == null) {
+                    publishRegistry(created);
+                    return getBean(state, definition.getType());
+                }
+                created.put(clazz, bean);
+            }
+        }
+        publishRegistry(created);
+        return bean;
+    }
+
+    /**
+     * Adds the specified singleton beans to the {@link BeanRegistry} of the current state and publishes it. Every
+     * creator of a bean adds it to the beans before publishing it, and the publications are serialized, so every bean
+     * of the current state ends up in its registry. Beans that are already in the registry, or that do not belong to
+     * the current state, are skipped, and only the new beans are copied into the registry.
+     *
+     * @param created the beans created by the caller, keyed by their class
+     */
+    private synchronized void publishRegistry(Map<Class<?>, Object> created) {
+        State latest = state;
+        Map<Class<?>, Object> added = new HashMap<>();
+        created.forEach((clazz, bean) -> {
+            if (latest.beans().get(clazz) == bean && !latest.registry().contains(clazz)) {
+                added.put(clazz, bean);
+            }
+        });
+        if (!added.isEmpty()) {
+            state = latest.withRegistry(latest.registry().with(added, latest.types()));
+        }
     }
-}
 
+    /**
+     * Adds a created singleton to the beans of the state it was created in. Registrations retire states under the same
+     * monitor, after carrying their beans over to the next state, so a singleton is never added to a retired state. If
+     * the state has been retired in the meantime, the singleton is added to the current state instead, as long as the
+     * registration kept its definition.
+     *
+     * @param current    the state the singleton was created in
+     * @param definition the definition of the singleton
+     * @param bean       the singleton
+     * @return false if the registration replaced the definition, in which case the singleton belongs to no state
+     */
+    private synchronized boolean adopt(State current, BeanDefinition definition, Object bean) {
+        State target = current.retired().get() ? state : current;
+        if (target.definitions().get(definition.getType()) != definition) {
+            return false;
+        }
+        target.beans().putIfAbsent(definition.getType(), bean);
+        return true;
+    }
 
+    /**
+     * Creates and populates a single lazy bean whose dependencies have already been created. The first caller
+     * installs a pending creation in the {@link BeanDefinition} with a compare-and-set and creates the bean, any
+     * concurrent caller waits for that creation. The bean is published only after it has been populated.
+     * <p>A bean created while a registration replaced its definition belongs to no state: it is destroyed and
+     * {@code null} is returned, so that the caller can request it again from the current state.</p>
+     *
+     * @param current    the state the bean is added to
+     * @param definition the definition of the bean
+     * @return the created bean, or {@code null} if its definition has been replaced
+     */
+    private Object createSingleton(State current, BeanDefinition definition) {
+        while (true) {
+            Object bean = current.beans().get(definition.getType());
+            if (bean != null) {
+                return bean;
+            }
+            CompletableFuture<Object> pending = definition.getCreation().get();
+            if (pending != null) {
+                try {
+                    Object created = pending.join();
+                    return adopt(current, definition, created) ? created : null;
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException cause) {
+                        throw cause;
+                    }
+                    throw e;
+                }
+            }
+            CompletableFuture<Object> creation = new CompletableFuture<>();
+            if (definition.getCreation().compareAndSet(null, creation)) {
+                try {
+                    bean = instantiate(current, definition);
+                    populateBean(current, bean);
+                    BeanLifecycle.postConstructNow(bean);
+                } catch (RuntimeException e) {
+                    definition.getCreation().set(null);
+                    creation.completeExceptionally(e);
+                    throw e;
+                }
+                creation.complete(bean);
+                if (adopt(current, definition, bean)) {
+                    return bean;
+                }
+                bindings.unbind(bean);
+                destroy(current.definitions(), Map.of(definition.getType(), bean), new CopyOnWriteArrayList<>());
+                return null;
+            }
+        }
+    }
+
+
+    /**
+     * Checks whether this context or any of its ancestors defines the specified component.
+     *
+     * @param component the component
+     * @return true if the component is created by this context or an ancestor
+     */
+    private boolean defines(Class<?> component) {
+        for (ApplicationContext context = this; context != null; context = context.parent) {
+            if (context.state.definitions().containsKey(component)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Scans the classpath with {@link Reflections} for classes annotated with {@link Component}. Used only when there
+     * is no {@link ComponentIndex} available, or when it is stale for the package.
+     *
+     * @return the components found
+     */
+    private Set<Class<?>> scanClasspath() {
+        return new Reflections(this.packageName).getTypesAnnotatedWith(Component.class);
+    }
+
+    /**
+     * Loads the wiring plan of the context from the snapshot file, if there is an up-to-date one. Otherwise the plan is
+     * resolved by {@link #resolve()} and written to the snapshot file for the next start. A snapshot file that cannot
+     * be written is not an error, the plan is then resolved again on the next start.
+     *
+     * @param snapshotFile the snapshot file, or {@code null} if no snapshot is used
+     * @return the wiring plan
+     */
+    private ContextSnapshot loadSnapshot(Path snapshotFile) {
+        if (snapshotFile == null) {
+            return resolve();
+        }
+        StartupRecorder.Timing timing = recorder.phase(StartupReport.SNAPSHOT);
+        long fingerprint = ContextSnapshot.fingerprint(snapshotFile, this.packageName);
+        ClassLoader classLoader = ApplicationContext.class.getClassLoader();
+        Optional<ContextSnapshot> loaded = ContextSnapshot.read(snapshotFile, this.packageName, fingerprint, classLoader);
+        timing.stop();
+        return loaded.orElseGet(() -> {
+            ContextSnapshot snapshot = resolve();
+            try {
+                snapshot.write(snapshotFile, this.packageName, fingerprint);
+            } catch (IOException ignored) {
+                // the snapshot is only a cache of the resolved plan
+            }
+            return snapshot;
+        });
+    }
+
+    /**
+     * Resolves the wiring plan of the context. The components are found in the build-time {@link ComponentIndex} when
+     * it is present on the classpath and up to date for the package, otherwise the package is scanned with
+     * {@link Reflections}. The dependency graph
+     * of the components is then sorted with {@link TopologicalSort} and the constructor of every component is chosen.
+     * A child context leaves out the components defined by its ancestors, so its graph only holds its own components.
+     * <p>Every injection point of every component, lazy or not, is resolved here, so a type implemented by more than
+     * one bean fails the startup as soon as a component asks for it, rather than when the bean is first created.</p>
+     *
+     * @return the wiring plan
+     * @throws NoUniqueBeanException if an injected type is implemented by more than one bean
+     */
+    private ContextSnapshot resolve() {
+        StartupRecorder.Timing timing = recorder.phase(StartupReport.SCAN);
+        ClassLoader classLoader = ApplicationContext.class.getClassLoader();
+        Optional<ComponentIndex> index = ComponentIndex.load(classLoader);
+        Optional<Set<Class<?>>> indexed = index.flatMap(i -> i.getComponents(this.packageName, classLoader));
+        Set<Class<?>> scanned = indexed.orElseGet(this::scanClasspath);
+        Set<Class<?>> components = parent == null ? scanned
+                : scanned.stream().filter(component -> !parent.defines(component)).collect(Collectors.toSet());
+        timing.stop();
+        timing = recorder.phase(StartupReport.DEPENDENCIES);
+        TypeIndex types = TypeIndex.of(components, parent == null ? null : parent.state.types());
+        Map<Class<?>, Set<Class<?>>> graph = indexed.isPresent()
+                ? index.get().getDependencyGraph(components, types)
+                : components.stream()
+                        .collect(Collectors.toMap(Function.identity(), x -> getDependenciesOfBean(x, types)));
+        timing.stop();
+        timing = recorder.phase(StartupReport.SORT);
+        List<Class<?>> sorted = TopologicalSort.getSorted(graph);
+        timing.stop();
+        timing = recorder.phase(StartupReport.CONSTRUCTORS);
+        Map<Class<?>, Constructor<?>> constructors = new HashMap<>(components.size() * 2);
+        for (Class<?> component : components) {
+            InjectionPlan plan = InjectionPlan.of(component);
+            plan.checkDependencies(types);
+            constructors.put(component, plan.getConstructor(types));
+        }
+        timing.stop();
+        return new ContextSnapshot(sorted, graph, constructors, types);
+    }
+
+    /**
+     * Populates the fields of the beans with the appropriate values or dependencies. This method will initialize the
+     * fields annotated with the {@link Autowired}, {@link Value} and {@link MultiValue} annotations, using the
+     * {@link InjectionPlan} of each bean.
+     *
+     * @param current the state whose beans are populated
+     */
+    private void populate(State current) {
+        for (Object bean : current.beans().values()) {
+            populateBean(current, bean);
+        }
+    }
+
+    /**
+     * Populates the fields of a single bean.
+     *
+     * @param current the state the dependencies are taken from
+     * @param bean    the bean
+     */
+    private void populateBean(State current, Object bean) {
+        InjectionPlan plan = InjectionPlan.of(bean.getClass());
+        StartupRecorder.Timing timing = recorder.bean(bean.getClass(), StartupRecorder.BeanStep.AUTOWIRING);
+        populateFields(bean, plan.getAutowiredFields(), field -> resolveDependency(current, field.getType()));
+        timing.stop();
+        timing = recorder.bean(bean.getClass(), StartupRecorder.BeanStep.VALUE_RESOLUTION);
+        BeanDefinition definition = current.definitions().get(bean.getClass());
+        bindings.inject(bean, plan, definition != null && definition.isSingleton());
+        timing.stop();
+    }
+
+    /**
+     * Populate the specified fields of the bean.
+     *
+     * @param bean          the bean whose fields are set
+     * @param fields        the fields to set, taken from the {@link InjectionPlan}
+     * @param valueResolver A function that takes a field as input and returns the value that should be set.
+     */
+    private void populateFields(Object bean, List<Field> fields, Function<Field, Object> valueResolver) {
+        for (Field field : fields) {
+            accessorFactory.injector(field).inject(bean, valueResolver.apply(field));
+        }
+    }
+
+    /**
+     * The wiring of the context: the type index, the definitions and the created singletons of its components, the
+     * index of their names and the registry of the published singletons. A state is replaced as a whole by a
+     * registration, so that a reader never combines the components of one state with the beans of another. The beans
+     * of a state only grow, as lazy beans are created, until a registration retires the state.
+     */
+    private record State(TypeIndex types, Map<Class<?>, BeanDefinition> definitions, Map<Class<?>, Object> beans,
+                         Map<String, Class<?>> names, BeanRegistry registry, AtomicBoolean retired) {
+
+        State withNames(Map<String, Class<?>> names) {
+            return new State(types, definitions, beans, names, registry, retired);
+        }
+
+        State withRegistry(BeanRegistry registry) {
+            return new State(types, definitions, beans, names, registry, retired);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.springmock;
+
+import com.springmock.annotations.Lazy;
+import com.springmock.annotations.Scope;
+import com.springmock.exceptions.UnableToCreateBeanException;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * <p>The {@link BeanDefinition} class describes a component of an {@link ApplicationContext}: its class, the
+ * components it depends on, the constructor chosen to create it, its {@link Scope} and whether it is created
+ * lazily.</p>
+ * <p>The definition of a lazy bean also holds the pending creation of the bean, so that concurrent first callers wait
+ * for a single creation instead of creating the bean twice.</p>
+ */
+final class BeanDefinition {
+    private final Class<?> type;
+    private final Set<Class<?>> dependencies;
+    private final Constructor<?> constructor;
+    private final boolean lazy;
+    private final String scope;
+    private final BeanPool pool;
+    private final AtomicReference<CompletableFuture<Object>> creation = new AtomicReference<>();
+
+    BeanDefinition(Class<?> type, Set<Class<?>> dependencies, Constructor<?> constructor, boolean lazy) {
+        this.type = type;
+        this.dependencies = Set.copyOf(dependencies);
+        this.constructor = constructor;
+        this.lazy = lazy;
+        Scope scope = type.getAnnotation(Scope.class);
+        this.scope = scope == null ? Scope.SINGLETON : scope.value();
+        if (!List.of(Scope.SINGLETON, Scope.PROTOTYPE, Scope.POOLED).contains(this.scope)) {
+            throw new UnableToCreateBeanException("Unknown scope '" + this.scope + "' of " + type.getName());
+        }
+        this.pool = Scope.POOLED.equals(this.scope) ? new BeanPool(scope.poolSize()) : null;
+    }
+
+    /**
+     * Checks whether the component is lazy, either because of its {@link Lazy} annotation or because of the default of
+     * the context.
+     *
+     * @param type        the component
+     * @param lazyDefault whether components of the context are lazy by default
+     * @return true if the component is created on first use
+     */
+    static boolean isLazy(Class<?> type, boolean lazyDefault) {
+        Lazy lazy = type.getAnnotation(Lazy.class);
+        return lazy == null ? lazyDefault : lazy.value();
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    Set<Class<?>> getDependencies() {
+        return dependencies;
+    }
+
+    Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Checks whether a single instance of the bean is shared.
+     *
+     * @return true if the bean is a singleton, false if it is a prototype or pooled bean
+     */
+    boolean isSingleton() {
+        return Scope.SINGLETON.equals(scope);
+    }
+
+    /**
+     * Gets the pool of idle instances of a {@link Scope#POOLED pooled} bean.
+     *
+     * @return the pool, or {@code null} if the bean is not pooled
+     */
+    BeanPool getPool() {
+        return pool;
+    }
+
+    AtomicReference<CompletableFuture<Object>> getCreation() {
+        return creation;
+    }
+}
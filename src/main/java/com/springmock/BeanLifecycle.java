@@ -0,0 +1,102 @@
+package com.springmock;
+
+import com.springmock.annotations.PostConstruct;
+import com.springmock.annotations.PreDestroy;
+import com.springmock.exceptions.BeanLifecycleException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+
+/**
+ * <p>The {@link BeanLifecycle} class calls the lifecycle methods of a bean.</p>
+ * <p>The {@link PostConstruct} and {@link PreDestroy} methods of a bean are called one after another. A method
+ * returning a {@link CompletionStage} is only considered done when the stage completes, and the next method is called
+ * afterwards. Any failure, thrown or reported by the stage, is turned into a {@link BeanLifecycleException}.</p>
+ */
+final class BeanLifecycle {
+
+    private BeanLifecycle() {
+    }
+
+    /**
+     * Calls the {@link PostConstruct} methods of the bean.
+     *
+     * @param bean the populated bean
+     * @return the stage completing once all methods are done, exceptionally with a {@link BeanLifecycleException} if
+     * any of them fails
+     */
+    static CompletableFuture<Void> postConstruct(Object bean) {
+        return invokeAll(bean, InjectionPlan.of(bean.getClass()).getPostConstructMethods(), "Initialization");
+    }
+
+    /**
+     * Calls the {@link PostConstruct} methods of the bean and waits until they are done.
+     *
+     * @param bean the populated bean
+     * @throws BeanLifecycleException if any method fails
+     */
+    static void postConstructNow(Object bean) {
+        List<Method> methods = InjectionPlan.of(bean.getClass()).getPostConstructMethods();
+        if (methods.isEmpty()) {
+            return;
+        }
+        try {
+            invokeAll(bean, methods, "Initialization").join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Calls the {@link PreDestroy} methods of the bean.
+     *
+     * @param bean the bean to destroy
+     * @return the stage completing once all methods are done, exceptionally with a {@link BeanLifecycleException} if
+     * any of them fails
+     */
+    static CompletableFuture<Void> preDestroy(Object bean) {
+        return invokeAll(bean, InjectionPlan.of(bean.getClass()).getPreDestroyMethods(), "Destruction");
+    }
+
+    private static CompletableFuture<Void> invokeAll(Object bean, List<Method> methods, String step) {
+        CompletableFuture<Void> done = CompletableFuture.completedFuture(null);
+        for (Method method : methods) {
+            done = done.thenCompose(ignored -> invoke(bean, method, step));
+        }
+        return done;
+    }
+
+    private static CompletableFuture<Void> invoke(Object bean, Method method, String step) {
+        Object result;
+        try {
+            result = method.invoke(bean);
+        } catch (IllegalAccessException e) {
+            throw failure(bean, method, step, e);
+        } catch (InvocationTargetException e) {
+            throw failure(bean, method, step, e.getCause());
+        }
+        if (!(result instanceof CompletionStage<?> stage)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return stage.toCompletableFuture().handle((value, e) -> {
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                throw failure(bean, method, step, cause);
+            }
+            return null;
+        });
+    }
+
+    private static BeanLifecycleException failure(Object bean, Method method, String step, Throwable cause) {
+        return new BeanLifecycleException(
+                step + " of " + bean.getClass().getName() + " failed in " + method.getName() + ": " + cause, cause);
+    }
+}
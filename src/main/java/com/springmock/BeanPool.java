@@ -0,0 +1,56 @@
+package com.springmock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * <p>The {@link BeanPool} class keeps idle instances of a pooled bean.</p>
+ * <p>The pool is a fixed array of slots claimed and filled with compare-and-set operations, so it is bounded, never
+ * blocks and does not allocate. Every operation starts at a rotating slot to spread concurrent callers over the
+ * array.</p>
+ */
+final class BeanPool {
+    private final AtomicReferenceArray<Object> slots;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    BeanPool(int size) {
+        this.slots = new AtomicReferenceArray<>(Math.max(size, 1));
+    }
+
+    /**
+     * Takes an idle instance from the pool.
+     *
+     * @return the instance, or {@code null} if the pool is empty
+     */
+    Object acquire() {
+        int length = slots.length();
+        int start = Math.floorMod(cursor.getAndIncrement(), length);
+        for (int i = 0; i < length; i++) {
+            int slot = (start + i) % length;
+            Object bean = slots.get(slot);
+            if (bean != null && slots.compareAndSet(slot, bean, null)) {
+                return bean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Puts an idle instance into the pool.
+     *
+     * @param bean the instance
+     * @return true if the instance was pooled, false if the pool is full
+     */
+    boolean release(Object bean) {
+        int length = slots.length();
+        int start = Math.floorMod(cursor.getAndIncrement(), length);
+        for (int i = 0; i < length; i++) {
+            int slot = (start + i) % length;
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, bean)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
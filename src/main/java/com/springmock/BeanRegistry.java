@@ -0,0 +1,139 @@
+package com.springmock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * <p>The {@link BeanRegistry} class is an immutable table of the singleton beans an {@link ApplicationContext} has
+ * created, used to answer {@link ApplicationContext#getBean(Class)} without locking.</p>
+ * <p>Every bean is stored under its class and under every supertype the {@link TypeIndex} resolves to it, so a lookup
+ * by class or by interface probes immutable hash tables and allocates nothing. A registry is never modified: the
+ * context derives a new one whenever beans are added and publishes it through a volatile field, so a thread that reads
+ * a bean from the registry also sees the fully populated state of that bean.</p>
+ * <p>Beans added later on, such as lazy beans, are not copied together with all beans created before them. A registry
+ * is a chain of levels, the newest first, and {@link #with(Map, TypeIndex)} merges the new beans only with the newer
+ * levels that are not larger than them, like the carries of a binary counter. Every bean is therefore copied a
+ * logarithmic number of times, and a lookup probes a logarithmic number of levels.</p>
+ */
+final class BeanRegistry {
+    static final BeanRegistry EMPTY = new BeanRegistry(Map.of(), Map.of(), null);
+
+    private final Map<Class<?>, Object> beans;
+    private final Map<Class<?>, Object> beansByType;
+    private final BeanRegistry older;
+    private final int size;
+    private Map<Class<?>, Object> allBeans;
+
+    private BeanRegistry(Map<Class<?>, Object> beans, Map<Class<?>, Object> beansByType, BeanRegistry older) {
+        this.beans = beans;
+        this.beansByType = beansByType;
+        this.older = older;
+        this.size = beans.size() + (older == null ? 0 : older.size);
+    }
+
+    /**
+     * Freezes the specified beans into a registry.
+     *
+     * @param beans the singleton beans, keyed by their class
+     * @param types the type index of the context
+     * @return the registry
+     */
+    static BeanRegistry of(Map<Class<?>, Object> beans, TypeIndex types) {
+        return new BeanRegistry(Map.copyOf(beans), Map.copyOf(index(beans, types)), null);
+    }
+
+    private static Map<Class<?>, Object> index(Map<Class<?>, Object> beans, TypeIndex types) {
+        Map<Class<?>, Object> beansByType = new HashMap<>(beans.size() * 4);
+        for (var entry : beans.entrySet()) {
+            for (Class<?> type : types.getTypesOf(entry.getKey())) {
+                beansByType.put(type, entry.getValue());
+            }
+        }
+        return beansByType;
+    }
+
+    /**
+     * Derives a registry holding the beans of this registry and the specified beans, which must not be in this
+     * registry yet.
+     *
+     * @param added the beans to add, keyed by their class
+     * @param types the type index of the context
+     * @return the new registry
+     */
+    BeanRegistry with(Map<Class<?>, Object> added, TypeIndex types) {
+        if (added.isEmpty()) {
+            return this;
+        }
+        Map<Class<?>, Object> merged = new HashMap<>(added);
+        Map<Class<?>, Object> mergedByType = index(added, types);
+        BeanRegistry level = this;
+        while (level != null && level.beans.size() <= merged.size()) {
+            merged.putAll(level.beans);
+            mergedByType.putAll(level.beansByType);
+            level = level.older;
+        }
+        return new BeanRegistry(Map.copyOf(merged), Map.copyOf(mergedByType), level);
+    }
+
+    /**
+     * Gets the bean that can be requested as the specified type.
+     *
+     * @param type the class of the bean or any supertype that resolves to it
+     * @return the bean, or {@code null} if no bean of the type is in the registry
+     */
+    Object get(Class<?> type) {
+        for (BeanRegistry level = this; level != null; level = level.older) {
+            Object bean = level.beansByType.get(type);
+            if (bean != null) {
+                return bean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the bean of the specified class is in the registry.
+     *
+     * @param clazz the class of the bean
+     * @return true if the registry holds the bean
+     */
+    boolean contains(Class<?> clazz) {
+        for (BeanRegistry level = this; level != null; level = level.older) {
+            if (level.beans.containsKey(clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the beans of the registry. The levels are merged into a single map on the first call.
+     *
+     * @return the unmodifiable map of beans, keyed by their class
+     */
+    Map<Class<?>, Object> getBeans() {
+        if (older == null) {
+            return beans;
+        }
+        Map<Class<?>, Object> all = allBeans;
+        if (all == null) {
+            Map<Class<?>, Object> merged = new HashMap<>(size * 2);
+            for (BeanRegistry level = this; level != null; level = level.older) {
+                merged.putAll(level.beans);
+            }
+            all = Map.copyOf(merged);
+            allBeans = all;
+        }
+        return all;
+    }
+
+    /**
+     * Gets the number of beans in the registry.
+     *
+     * @return the number of beans
+     */
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,25 @@
+package com.springmock;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * The {@link BeanStartupEvent} is the JDK Flight Recorder event emitted for every step of the creation of a bean
+ * recorded by a {@link StartupRecorder}.
+ */
+@Name("com.springmock.BeanStartup")
+@Label("Bean Startup")
+@Category({"SpringMock", "Startup"})
+@Description("Time spent constructing, autowiring or resolving the values of a bean")
+@StackTrace(false)
+final class BeanStartupEvent extends jdk.jfr.Event {
+    @Label("Bean Class")
+    Class<?> beanClass;
+
+    @Label("Step")
+    String step;
+}
@@ -0,0 +1,245 @@
+package com.springmock;
+
+import com.springmock.annotations.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+
+/**
+ * <p>The {@link ComponentIndex} class reads the component index generated at build time by the
+ * {@code ComponentIndexProcessor}.</p>
+ * <p>The index lists every component together with the types of its autowired fields and constructor parameters, so
+ * the dependency graph of the components can be built without scanning the classpath and without walking the
+ * declared members of every class.</p>
+ * <p>The indexes visible to a class loader are read only once and shared by every context created with it, so a
+ * context pays only for looking up its own package.</p>
+ * <p>An index that lists no component of a package, or that lists a class that is missing or no longer a
+ * {@link Component}, is stale for that package: the context then falls back to scanning the package. So is an index
+ * that misses a component, which happens when a class is compiled without the processor, or when a class directory or
+ * jar without an index adds classes to the package. To notice these, the class files of the package that the index
+ * does not list are looked up on the classpath, and any of them that refers to the {@link Component} annotation makes
+ * the index stale. These class files are only searched for the descriptor of the annotation, they are neither parsed
+ * nor loaded. The classes of the unnamed package cannot be listed across jars, so an index is never used for it.</p>
+ */
+class ComponentIndex {
+    static final String INDEX_LOCATION = "META-INF/springmock/components.index";
+    private static final byte[] COMPONENT_DESCRIPTOR =
+            ('L' + Component.class.getName().replace('.', '/') + ';').getBytes(StandardCharsets.UTF_8);
+    private static final Map<ClassLoader, Optional<ComponentIndex>> INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, Entry> entries;
+
+    private ComponentIndex(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Loads all component indexes visible to the specified class loader. The merged index is cached per class loader.
+     *
+     * @param classLoader the class loader used to find the indexes
+     * @return the merged index, or an empty optional if there is no index on the classpath
+     */
+    static Optional<ComponentIndex> load(ClassLoader classLoader) {
+        return INDEXES.computeIfAbsent(classLoader, ComponentIndex::readAll);
+    }
+
+    private static Optional<ComponentIndex> readAll(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+            if (!resources.hasMoreElements()) {
+                return Optional.empty();
+            }
+            Map<String, Entry> entries = new LinkedHashMap<>();
+            for (URL resource : Collections.list(resources)) {
+                read(resource, entries);
+            }
+            return Optional.of(new ComponentIndex(entries));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void read(URL resource, Map<String, Entry> entries) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                Set<String> dependencies = new HashSet<>();
+                for (int i = 1; i < columns.length; i++) {
+                    if (!columns[i].isEmpty()) {
+                        dependencies.addAll(List.of(columns[i].split(",")));
+                    }
+                }
+                entries.put(columns[0], new Entry(columns[0], dependencies));
+            }
+        }
+    }
+
+    /**
+     * Loads the indexed components that belong to the specified package.
+     *
+     * @param packageName the package of the components
+     * @param classLoader the class loader used to load the components
+     * @return the set of components, or an empty optional if the index is stale for the package
+     */
+    Optional<Set<Class<?>>> getComponents(String packageName, ClassLoader classLoader) {
+        Set<Class<?>> components = new HashSet<>();
+        for (Entry entry : entries.values()) {
+            if (isInPackage(entry.className(), packageName)) {
+                Class<?> component = loadClass(entry.className(), classLoader);
+                if (component == null || !component.isAnnotationPresent(Component.class)) {
+                    return Optional.empty();
+                }
+                components.add(component);
+            }
+        }
+        if (components.isEmpty() || hasUnindexedComponents(packageName, classLoader)) {
+            return Optional.empty();
+        }
+        return Optional.of(components);
+    }
+
+    /**
+     * Checks whether a class file of the package, or of any of its subpackages, that the index does not list refers to
+     * the {@link Component} annotation. Class files in a location that cannot be listed count as unindexed components.
+     *
+     * @param packageName the package of the components
+     * @param classLoader the class loader used to find the class files
+     * @return true if the index may miss a component of the package
+     */
+    private boolean hasUnindexedComponents(String packageName, ClassLoader classLoader) {
+        if (packageName.isEmpty()) {
+            return true;
+        }
+        String path = packageName.replace('.', '/');
+        try {
+            for (URL location : Collections.list(classLoader.getResources(path))) {
+                boolean unindexed = switch (location.getProtocol()) {
+                    case "file" -> hasUnindexedComponents(Path.of(location.toURI()), packageName);
+                    case "jar" -> hasUnindexedComponents((JarURLConnection) location.openConnection(), path);
+                    default -> true;
+                };
+                if (unindexed) {
+                    return true;
+                }
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException | UncheckedIOException e) {
+            return true;
+        }
+        return false;
+    }
+
+    private boolean hasUnindexedComponents(Path directory, String packageName) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = directory.relativize(file).toString();
+                if (name.endsWith(".class")) {
+                    String className = packageName + '.' + name.substring(0, name.length() - ".class".length())
+                            .replace(file.getFileSystem().getSeparator(), ".");
+                    if (isUnindexedComponent(className, Files.readAllBytes(file))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hasUnindexedComponents(JarURLConnection connection, String path) throws IOException {
+        JarFile jar = connection.getJarFile();
+        for (JarEntry entry : Collections.list(jar.entries())) {
+            String name = entry.getName();
+            if (name.startsWith(path + '/') && name.endsWith(".class")) {
+                try (InputStream in = jar.getInputStream(entry)) {
+                    String className = name.substring(0, name.length() - ".class".length()).replace('/', '.');
+                    if (isUnindexedComponent(className, in.readAllBytes())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isUnindexedComponent(String className, byte[] classFile) {
+        return !entries.containsKey(className) && contains(classFile, COMPONENT_DESCRIPTOR);
+    }
+
+    private static boolean contains(byte[] bytes, byte[] pattern) {
+        for (int i = 0; i <= bytes.length - pattern.length; i++) {
+            if (Arrays.equals(bytes, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the dependency graph of the specified indexed components. The indexed dependency types are resolved to
+     * components through the type index, so a dependency may be declared as any supertype of a component.
+     *
+     * @param components the components, as found by {@link #getComponents(String, ClassLoader)}
+     * @param types      the type index of the components
+     * @return the graph, where the value of each component is the set of components it depends on
+     * @throws com.springmock.exceptions.NoUniqueBeanException if more than one component is assignable to a
+     *                                                         dependency type
+     */
+    Map<Class<?>, Set<Class<?>>> getDependencyGraph(Set<Class<?>> components, TypeIndex types) {
+        Map<Class<?>, Set<Class<?>>> graph = new HashMap<>(components.size() * 2);
+        for (Class<?> component : components) {
+            Set<Class<?>> dependencies = new HashSet<>();
+            for (String dependencyType : entries.get(component.getName()).dependencies()) {
+                Class<?> dependency = types.resolve(dependencyType);
+                if (dependency != null) {
+                    dependencies.add(dependency);
+                }
+            }
+            graph.put(component, dependencies);
+        }
+        return graph;
+    }
+
+    private static boolean isInPackage(String className, String packageName) {
+        return packageName.isEmpty() || className.startsWith(packageName + '.');
+    }
+
+    private static Class<?> loadClass(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private record Entry(String className, Set<String> dependencies) {
+    }
+}
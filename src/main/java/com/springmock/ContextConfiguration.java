@@ -0,0 +1,298 @@
+package com.springmock;
+
+import com.springmock.accessors.BeanAccessorFactory;
+import com.springmock.properties.PropertySource;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>The {@link ContextConfiguration} class holds the settings used to create an {@link ApplicationContext}.</p>
+ * <p>Every setter returns the configuration itself, so the settings can be chained:</p>
+ * <pre>{@code
+ * new ApplicationContext(new ContextConfiguration("com.example")
+ *         .accessorFactory(BeanAccessorFactory.reflective()));
+ * }</pre>
+ */
+public class ContextConfiguration {
+    private final String packageName;
+    private BeanAccessorFactory accessorFactory = BeanAccessorFactory.generated();
+    private Executor executor;
+    private Executor initExecutor = ForkJoinPool.commonPool();
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+    private boolean lazy;
+    private Path snapshot;
+    private boolean recordStartup;
+    private List<PropertySource> propertySources = PropertySource.standard();
+    private boolean hotReload;
+    private ApplicationContext parent;
+
+    /**
+     * Creates a new configuration of a context that scans the specified package.
+     *
+     * @param packageName the package to scan for beans
+     */
+    public ContextConfiguration(@NotNull String packageName) {
+        this.packageName = packageName;
+    }
+
+    /**
+     * Gets the package scanned for beans.
+     *
+     * @return the package name
+     */
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Gets the factory of the accessors used to instantiate beans and inject their fields.
+     *
+     * @return the accessor factory
+     */
+    public BeanAccessorFactory getAccessorFactory() {
+        return accessorFactory;
+    }
+
+    /**
+     * Sets the factory of the accessors used to instantiate beans and inject their fields. By default the beans are
+     * accessed through the {@link BeanAccessorFactory#generated() generated} component factories, if the components
+     * were compiled with them, and through method handles otherwise.
+     *
+     * @param accessorFactory the accessor factory
+     * @return this configuration
+     */
+    public ContextConfiguration accessorFactory(@NotNull BeanAccessorFactory accessorFactory) {
+        this.accessorFactory = accessorFactory;
+        return this;
+    }
+
+    /**
+     * Gets the executor used to create the beans in parallel.
+     *
+     * @return the executor, or {@code null} if the beans are created sequentially
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Creates the beans in parallel on the common {@link ForkJoinPool}.
+     *
+     * @return this configuration
+     * @see #parallel(Executor)
+     */
+    public ContextConfiguration parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates the beans in parallel on the specified executor, for example a {@link ForkJoinPool} or an executor
+     * starting a virtual thread per task. The beans are grouped into levels, where every bean depends only on beans of
+     * previous levels, and the beans of each level are created and populated concurrently. The resulting beans are
+     * the same as when they are created sequentially.
+     *
+     * @param executor the executor creating the beans
+     * @return this configuration
+     */
+    public ContextConfiguration parallel(@NotNull Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Gets the executor running the {@link com.springmock.annotations.PostConstruct} methods of the eager beans and the
+     * {@link com.springmock.annotations.PreDestroy} methods of the beans.
+     *
+     * @return the init executor
+     */
+    public Executor getInitExecutor() {
+        return initExecutor;
+    }
+
+    /**
+     * Sets the executor running the {@link com.springmock.annotations.PostConstruct} methods of the eager beans once
+     * they have all been created. The methods of beans that do not depend on each other run concurrently. The common
+     * {@link ForkJoinPool} is used by default, an executor starting a virtual thread per task suits methods that block.
+     * The {@link com.springmock.annotations.PreDestroy} methods run on the same executor when the context is closed.
+     *
+     * @param initExecutor the init executor
+     * @return this configuration
+     * @see ApplicationContext#awaitReady()
+     */
+    public ContextConfiguration initExecutor(@NotNull Executor initExecutor) {
+        this.initExecutor = initExecutor;
+        return this;
+    }
+
+    /**
+     * Gets the time the {@link com.springmock.annotations.PreDestroy} methods of a bean may take.
+     *
+     * @return the shutdown timeout
+     */
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    /**
+     * Sets the time the {@link com.springmock.annotations.PreDestroy} methods of a single bean may take when the
+     * context is closed. Once it has elapsed, the context stops waiting for the bean, reports it as timed out and goes
+     * on with the beans it depends on. Closing also waits at most this long for a pending initialization. The default
+     * is 30 seconds.
+     *
+     * @param shutdownTimeout the shutdown timeout
+     * @return this configuration
+     * @see ApplicationContext#close()
+     */
+    public ContextConfiguration shutdownTimeout(@NotNull Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+        return this;
+    }
+
+    /**
+     * Checks whether the beans are created on first use by default.
+     *
+     * @return true if the beans are lazy by default
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Sets whether the beans are created on first use instead of at startup. Components annotated with
+     * {@link com.springmock.annotations.Lazy} override this default.
+     *
+     * @param lazy true if the beans are lazy by default
+     * @return this configuration
+     */
+    public ContextConfiguration lazy(boolean lazy) {
+        this.lazy = lazy;
+        return this;
+    }
+
+    /**
+     * Gets the file the resolved wiring plan of the context is stored in.
+     *
+     * @return the snapshot file, or {@code null} if the plan is resolved on every start
+     */
+    public Path getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Stores the resolved wiring plan of the context in the specified file: the components in the order they are
+     * created, the constructor chosen for each of them and the components injected into each of them. When the file
+     * exists on the next start, the context is created from it without scanning the classpath. The file is written
+     * again whenever the class path has changed since it was written: a jar was added, removed or replaced, or a class
+     * of the package, or the component index, changed in a class directory.
+     *
+     * @param snapshot the snapshot file
+     * @return this configuration
+     */
+    public ContextConfiguration snapshot(@NotNull Path snapshot) {
+        this.snapshot = snapshot;
+        return this;
+    }
+
+    /**
+     * Checks whether the timings of the startup are recorded.
+     *
+     * @return true if the startup is recorded
+     */
+    public boolean isRecordStartup() {
+        return recordStartup;
+    }
+
+    /**
+     * Sets whether the time spent in every phase of the startup and on every bean is recorded. The timings are
+     * available through {@link ApplicationContext#getStartupReport()} and are emitted as JDK Flight Recorder events.
+     * The startup is not recorded by default.
+     *
+     * @param recordStartup true if the startup is recorded
+     * @return this configuration
+     */
+    public ContextConfiguration recordStartup(boolean recordStartup) {
+        this.recordStartup = recordStartup;
+        return this;
+    }
+
+    /**
+     * Gets the sources of the properties injected into {@link com.springmock.annotations.Value} and
+     * {@link com.springmock.annotations.MultiValue} fields.
+     *
+     * @return the property sources, in order of precedence
+     */
+    public List<PropertySource> getPropertySources() {
+        return propertySources;
+    }
+
+    /**
+     * Sets the sources of the properties injected into {@link com.springmock.annotations.Value} and
+     * {@link com.springmock.annotations.MultiValue} fields. When several sources define a property, the first of them
+     * wins. The sources are loaded once when the context starts. By default the {@link PropertySource#standard()
+     * standard} sources are used.
+     *
+     * @param propertySources the property sources, in order of precedence
+     * @return this configuration
+     */
+    public ContextConfiguration propertySources(@NotNull PropertySource... propertySources) {
+        this.propertySources = List.of(propertySources);
+        return this;
+    }
+
+    /**
+     * Checks whether the properties are reloaded when a property file changes.
+     *
+     * @return true if hot reload is enabled
+     */
+    public boolean isHotReload() {
+        return hotReload;
+    }
+
+    /**
+     * Sets whether the files of the file-backed {@link #propertySources(PropertySource...) property sources} are
+     * watched. When one of them changes, the properties are reloaded and the {@link com.springmock.annotations.Value}
+     * and {@link com.springmock.annotations.MultiValue} fields of the singleton beans using a changed property are
+     * injected again. Hot reload is disabled by default.
+     * <p>The fields are injected one at a time while the beans are in use, and the beans read them without any lock.
+     * The update is therefore not atomic: a thread may see some fields of a bean with their new values and others with
+     * their old ones, and it may see the new value of a field only later. Beans that need a consistent view should
+     * read their properties from the {@link com.springmock.properties.PropertyChangeEvent} passed to a listener, or
+     * keep related settings in a single multi-value field.</p>
+     *
+     * @param hotReload true if hot reload is enabled
+     * @return this configuration
+     * @see ApplicationContext#addPropertyChangeListener(com.springmock.properties.PropertyChangeListener)
+     */
+    public ContextConfiguration hotReload(boolean hotReload) {
+        this.hotReload = hotReload;
+        return this;
+    }
+
+    /**
+     * Gets the parent of the context.
+     *
+     * @return the parent context, or {@code null} if the context has no parent
+     */
+    public ApplicationContext getParent() {
+        return parent;
+    }
+
+    /**
+     * Creates the context as a child of the specified context. The child only creates the components of its package
+     * that the parent and its ancestors do not define, and takes every other bean from the parent, which may be shared
+     * by any number of children. A component of the child hides a bean of the parent of the same type or name. The
+     * wiring plan of a child depends on its parent, so the {@link #snapshot(Path) snapshot} is not used.
+     *
+     * @param parent the parent context
+     * @return this configuration
+     */
+    public ContextConfiguration parent(@NotNull ApplicationContext parent) {
+        this.parent = parent;
+        return this;
+    }
+}
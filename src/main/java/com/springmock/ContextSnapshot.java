@@ -0,0 +1,281 @@
+package com.springmock;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+
+/**
+ * <p>The {@link ContextSnapshot} class holds the resolved wiring plan of an {@link ApplicationContext}: its components
+ * in topological order, the components each of them depends on and the constructor chosen to create each of them.</p>
+ * <p>The plan can be written to a compact binary file and read back on the next start, so the context can skip the
+ * classpath scan, the dependency resolution, the topological sort and the constructor selection. The file records a
+ * fingerprint of the class path, restricted to the scanned package within class directories, and is only used while the
+ * fingerprint still matches.</p>
+ */
+final class ContextSnapshot {
+    private static final int MAGIC = 0x534D4358;
+    private static final int VERSION = 1;
+
+    private final List<Class<?>> components;
+    private final Map<Class<?>, Set<Class<?>>> graph;
+    private final Map<Class<?>, Constructor<?>> constructors;
+    private final TypeIndex types;
+
+    /**
+     * Creates a new snapshot of a resolved context.
+     *
+     * @param components   the components in topological order, so that dependencies come first
+     * @param graph        the dependency graph of the components
+     * @param constructors the constructor chosen for each component
+     * @param types        the type index of the components
+     */
+    ContextSnapshot(List<Class<?>> components, Map<Class<?>, Set<Class<?>>> graph,
+                    Map<Class<?>, Constructor<?>> constructors, TypeIndex types) {
+        this.components = List.copyOf(components);
+        this.graph = Map.copyOf(graph);
+        this.constructors = Map.copyOf(constructors);
+        this.types = types;
+    }
+
+    /**
+     * Gets the components in topological order, so that dependencies come first.
+     *
+     * @return the ordered components
+     */
+    List<Class<?>> getComponents() {
+        return components;
+    }
+
+    /**
+     * Gets the dependency graph of the components.
+     *
+     * @return the graph, where the value of each component is the set of components it depends on
+     */
+    Map<Class<?>, Set<Class<?>>> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Gets the constructor chosen to create the specified component.
+     *
+     * @param component the component
+     * @return the constructor
+     */
+    Constructor<?> getConstructor(Class<?> component) {
+        return constructors.get(component);
+    }
+
+    /**
+     * Gets the type index of the components.
+     *
+     * @return the type index
+     */
+    TypeIndex getTypes() {
+        return types;
+    }
+
+    /**
+     * Reads the snapshot from the specified file. A snapshot that is missing, corrupted, written for another package
+     * or for another class path, or that refers to classes and constructors which no longer exist, is ignored.
+     *
+     * @param file        the snapshot file
+     * @param packageName the package scanned by the context
+     * @param fingerprint the fingerprint of the current class path
+     * @param classLoader the class loader used to load the components
+     * @return the snapshot, or an empty optional if the file cannot be used
+     */
+    static Optional<ContextSnapshot> read(Path file, String packageName, long fingerprint, ClassLoader classLoader) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != fingerprint
+                    || !in.readUTF().equals(packageName)) {
+                return Optional.empty();
+            }
+            int size = in.readInt();
+            List<Class<?>> components = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                components.add(Class.forName(in.readUTF(), false, classLoader));
+            }
+            Map<Class<?>, Set<Class<?>>> graph = new HashMap<>(size * 2);
+            Map<Class<?>, Constructor<?>> constructors = new HashMap<>(size * 2);
+            for (Class<?> component : components) {
+                int dependencyCount = in.readInt();
+                Set<Class<?>> dependencies = new HashSet<>(dependencyCount * 2);
+                for (int i = 0; i < dependencyCount; i++) {
+                    dependencies.add(components.get(in.readInt()));
+                }
+                graph.put(component, dependencies);
+                String[] parameterTypes = new String[in.readInt()];
+                for (int i = 0; i < parameterTypes.length; i++) {
+                    parameterTypes[i] = in.readUTF();
+                }
+                Constructor<?> constructor = findConstructor(component, parameterTypes);
+                if (constructor == null) {
+                    return Optional.empty();
+                }
+                constructors.put(component, constructor);
+            }
+            return Optional.of(new ContextSnapshot(components, graph, constructors, TypeIndex.of(components)));
+        } catch (IOException | ClassNotFoundException | LinkageError | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Constructor<?> findConstructor(Class<?> component, String[] parameterTypes) {
+        for (Constructor<?> constructor : component.getConstructors()) {
+            Class<?>[] candidateTypes = constructor.getParameterTypes();
+            if (candidateTypes.length != parameterTypes.length) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < candidateTypes.length && matches; i++) {
+                matches = candidateTypes[i].getName().equals(parameterTypes[i]);
+            }
+            if (matches) {
+                return constructor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the snapshot to the specified file. The file is written to a temporary file first and then moved into
+     * place, so a concurrently starting context never reads a partial snapshot.
+     *
+     * @param file        the snapshot file
+     * @param packageName the package scanned by the context
+     * @param fingerprint the fingerprint of the current class path
+     * @throws IOException if the file cannot be written
+     */
+    void write(Path file, String packageName, long fingerprint) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint);
+                out.writeUTF(packageName);
+                out.writeInt(components.size());
+                Map<Class<?>, Integer> indexes = new HashMap<>(components.size() * 2);
+                for (Class<?> component : components) {
+                    indexes.put(component, indexes.size());
+                    out.writeUTF(component.getName());
+                }
+                for (Class<?> component : components) {
+                    Set<Class<?>> dependencies = graph.get(component);
+                    out.writeInt(dependencies.size());
+                    for (Class<?> dependency : dependencies) {
+                        out.writeInt(indexes.get(dependency));
+                    }
+                    Class<?>[] parameterTypes = constructors.get(component).getParameterTypes();
+                    out.writeInt(parameterTypes.length);
+                    for (Class<?> parameterType : parameterTypes) {
+                        out.writeUTF(parameterType.getName());
+                    }
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Computes the fingerprint of the class path of the JVM for the components of the specified package.
+     *
+     * @param snapshotFile the snapshot file
+     * @param packageName  the scanned package
+     * @return the fingerprint
+     * @see #fingerprint(List, Path, String)
+     */
+    static long fingerprint(Path snapshotFile, String packageName) {
+        List<Path> classPath = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                classPath.add(Path.of(entry));
+            }
+        }
+        return fingerprint(classPath, snapshotFile, packageName);
+    }
+
+    /**
+     * Computes the fingerprint of the specified class path for the components of the specified package. Every entry
+     * contributes its path. A jar contributes its size and modification time, while a class directory only contributes
+     * the path, size and modification time of the files under the directory of the package and of the component
+     * index, so the cost does not grow with the rest of the directory. The snapshot file itself is left out, in case it
+     * is stored inside a class directory.
+     * <p>Classes outside the package are therefore not part of the fingerprint when they come from a class directory:
+     * a change to a supertype of a component that lives elsewhere in the directory is only detected together with a
+     * change to the package.</p>
+     *
+     * @param classPath    the entries of the class path
+     * @param snapshotFile the snapshot file
+     * @param packageName  the scanned package
+     * @return the fingerprint
+     */
+    static long fingerprint(List<Path> classPath, Path snapshotFile, String packageName) {
+        Path excluded = snapshotFile.toAbsolutePath().normalize();
+        String packagePath = packageName.replace('.', File.separatorChar);
+        CRC32 crc = new CRC32();
+        for (Path entry : classPath) {
+            crc.update(entry.toString().getBytes(StandardCharsets.UTF_8));
+            Path path = entry.toAbsolutePath().normalize();
+            if (Files.isDirectory(path)) {
+                update(crc, path.resolve(ComponentIndex.INDEX_LOCATION), excluded);
+                update(crc, packagePath.isEmpty() ? path : path.resolve(packagePath), excluded);
+            } else if (Files.isRegularFile(path)) {
+                update(crc, path);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static void update(CRC32 crc, Path directory, Path excluded) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(file -> !file.startsWith(excluded) && Files.isRegularFile(file))
+                    .sorted()
+                    .forEachOrdered(file -> update(crc, file));
+        } catch (IOException | UncheckedIOException e) {
+            crc.update(0);
+        }
+    }
+
+    private static void update(CRC32 crc, Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            crc.update(file.toString().getBytes(StandardCharsets.UTF_8));
+            crc.update(Long.toString(attributes.size()).getBytes(StandardCharsets.UTF_8));
+            crc.update(Long.toString(attributes.lastModifiedTime().toMillis()).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            crc.update(0);
+        }
+    }
+}
@@ -7,6 +7,14 @@ public class EnvironmentVariables {
     public static String boolMap = "false:false,true:true";
     public static String number = "1";
     public static String numbers = "1,2,3";
+    public static String numbersInvalid = "1,two,3";
+    public static String pipedNames = "alpha|beta\\|gamma| delta ";
+    public static String dottedNumbers = "1.2.3";
+    public static String spacedMap = "one = 1; two = 2";
+    public static String booleans = "true, FALSE, True";
+    public static String booleansInvalid = "true,yes,false";
+    public static String trailingNumbers = "1,2,3, ,";
+    public static String paths = "C:\\temp, D:\\data";
 
     public static String HOME ;
 
@@ -0,0 +1,237 @@
+package com.springmock;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.MultiValue;
+import com.springmock.annotations.PostConstruct;
+import com.springmock.annotations.PreDestroy;
+import com.springmock.annotations.Reset;
+import com.springmock.annotations.Value;
+import com.springmock.exceptions.UnableToCreateBeanException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * <p>The {@link InjectionPlan} class holds everything the {@link ApplicationContext} needs to know about a component
+ * class in order to create it and inject its fields: its public constructors, the types it may depend on and the
+ * fields annotated with {@link Autowired}, {@link Value} and {@link MultiValue}, as well as its {@link Reset}
+ * methods.</p>
+ * <p>The plan is immutable and built only once per class, so the declared members of a component are walked a single
+ * time no matter how many phases or contexts use it.</p>
+ */
+final class InjectionPlan {
+    private static final ClassValue<InjectionPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type) {
+            return new InjectionPlan(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Constructor<?>[] constructors;
+    private final Class<?>[][] parameterTypes;
+    private final Set<Class<?>> dependencyTypes;
+    private final List<Field> autowiredFields;
+    private final List<Field> valueFields;
+    private final List<Field> multiValueFields;
+    private final List<Method> resetMethods;
+    private final List<Method> postConstructMethods;
+    private final List<Method> preDestroyMethods;
+
+    private InjectionPlan(Class<?> type) {
+        this.type = type;
+        this.constructors = type.getConstructors();
+        this.parameterTypes = new Class<?>[constructors.length][];
+        Set<Class<?>> dependencyTypes = new LinkedHashSet<>();
+        List<Field> autowiredFields = new ArrayList<>();
+        List<Field> valueFields = new ArrayList<>();
+        List<Field> multiValueFields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Autowired.class)) {
+                dependencyTypes.add(field.getType());
+                if (field.getType() != type) {
+                    autowiredFields.add(field);
+                }
+            }
+            if (field.isAnnotationPresent(Value.class)) {
+                valueFields.add(field);
+            }
+            if (field.isAnnotationPresent(MultiValue.class)) {
+                multiValueFields.add(field);
+            }
+        }
+        for (int i = 0; i < constructors.length; i++) {
+            parameterTypes[i] = constructors[i].getParameterTypes();
+            Collections.addAll(dependencyTypes, parameterTypes[i]);
+        }
+        this.dependencyTypes = Collections.unmodifiableSet(dependencyTypes);
+        this.autowiredFields = List.copyOf(autowiredFields);
+        this.valueFields = List.copyOf(valueFields);
+        this.multiValueFields = List.copyOf(multiValueFields);
+        List<Method> resetMethods = new ArrayList<>();
+        List<Method> postConstructMethods = new ArrayList<>();
+        List<Method> preDestroyMethods = new ArrayList<>();
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Reset.class) && method.getParameterCount() == 0) {
+                method.setAccessible(true);
+                resetMethods.add(method);
+            }
+            if (method.isAnnotationPresent(PostConstruct.class) && method.getParameterCount() == 0) {
+                method.setAccessible(true);
+                postConstructMethods.add(method);
+            }
+            if (method.isAnnotationPresent(PreDestroy.class) && method.getParameterCount() == 0) {
+                method.setAccessible(true);
+                preDestroyMethods.add(method);
+            }
+        }
+        this.resetMethods = List.copyOf(resetMethods);
+        this.postConstructMethods = List.copyOf(postConstructMethods);
+        this.preDestroyMethods = List.copyOf(preDestroyMethods);
+    }
+
+    /**
+     * Gets the plan of the specified class, building it on first use.
+     *
+     * @param type the component class
+     * @return the injection plan of the class
+     */
+    static InjectionPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Gets the dependencies of the component among the components of the specified index. These are the beans
+     * assignable to the types of the fields annotated with {@link Autowired} and to the parameter types of the public
+     * constructors.
+     *
+     * @param types the type index of the components of the application
+     * @return the set of components the component depends on
+     * @throws com.springmock.exceptions.NoUniqueBeanException if more than one component is assignable to a type
+     */
+    Set<Class<?>> getDependencies(TypeIndex types) {
+        Set<Class<?>> dependencies = new HashSet<>();
+        for (Class<?> dependencyType : dependencyTypes) {
+            Class<?> dependency = types.resolve(dependencyType);
+            if (dependency != null) {
+                dependencies.add(dependency);
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Checks that every type the component asks to be injected resolves to at most one bean, of the specified index or
+     * of the first parent index that defines a bean of the type. This covers the types that
+     * {@link #getDependencies(TypeIndex)} does not resolve, such as types only the beans of a parent context implement.
+     *
+     * @param types the type index of the components of the application
+     * @throws com.springmock.exceptions.NoUniqueBeanException if more than one component is assignable to a type
+     */
+    void checkDependencies(TypeIndex types) {
+        for (Class<?> dependencyType : dependencyTypes) {
+            types.isResolvable(dependencyType);
+        }
+    }
+
+    /**
+     * Gets the types the component asks to be injected: the types of the fields annotated with {@link Autowired} and
+     * the parameter types of the public constructors.
+     *
+     * @return the dependency types
+     */
+    Set<Class<?>> getDependencyTypes() {
+        return dependencyTypes;
+    }
+
+    /**
+     * Chooses the public constructor with the most parameters that can be injected from the components of the
+     * specified index or of its parents.
+     *
+     * @param types the type index of the components of the application
+     * @return the chosen constructor
+     * @throws UnableToCreateBeanException if the component has no public constructor
+     */
+    Constructor<?> getConstructor(TypeIndex types) {
+        int chosen = -1;
+        long chosenCount = -1;
+        for (int i = 0; i < constructors.length; i++) {
+            long count = 0;
+            for (Class<?> parameterType : parameterTypes[i]) {
+                if (types.isResolvable(parameterType)) {
+                    count++;
+                }
+            }
+            if (count > chosenCount) {
+                chosen = i;
+                chosenCount = count;
+            }
+        }
+        if (chosen < 0) {
+            throw new UnableToCreateBeanException("No public constructor found for " + type.getName());
+        }
+        return constructors[chosen];
+    }
+
+    /**
+     * Gets the fields annotated with {@link Autowired}, excluding the fields of the component's own type.
+     *
+     * @return the autowired fields
+     */
+    List<Field> getAutowiredFields() {
+        return autowiredFields;
+    }
+
+    /**
+     * Gets the fields annotated with {@link Value}.
+     *
+     * @return the value fields
+     */
+    List<Field> getValueFields() {
+        return valueFields;
+    }
+
+    /**
+     * Gets the fields annotated with {@link MultiValue}.
+     *
+     * @return the multi-value fields
+     */
+    List<Field> getMultiValueFields() {
+        return multiValueFields;
+    }
+
+    /**
+     * Gets the methods without parameters annotated with {@link Reset}.
+     *
+     * @return the reset methods
+     */
+    List<Method> getResetMethods() {
+        return resetMethods;
+    }
+
+    /**
+     * Gets the methods without parameters annotated with {@link PostConstruct}.
+     *
+     * @return the initialization methods
+     */
+    List<Method> getPostConstructMethods() {
+        return postConstructMethods;
+    }
+
+    /**
+     * Gets the methods without parameters annotated with {@link PreDestroy}.
+     *
+     * @return the destruction methods
+     */
+    List<Method> getPreDestroyMethods() {
+        return preDestroyMethods;
+    }
+}
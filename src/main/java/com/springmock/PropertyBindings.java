@@ -0,0 +1,229 @@
+package com.springmock;
+
+import com.springmock.accessors.BeanAccessorFactory;
+import com.springmock.annotations.MultiValue;
+import com.springmock.annotations.Value;
+import com.springmock.annotations.resolvers.MultiValueResolver;
+import com.springmock.annotations.resolvers.ValueResolver;
+import com.springmock.properties.PropertyChangeEvent;
+import com.springmock.properties.PropertyChangeListener;
+import com.springmock.properties.PropertySnapshot;
+import com.springmock.properties.PropertySource;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+ * <p>The {@link PropertyBindings} class injects the {@link Value} and {@link MultiValue} fields of the beans of an
+ * {@link ApplicationContext} from the current {@link PropertySnapshot}.</p>
+ * <p>Every field of a singleton bean is recorded in a reverse index from the name of its property to the bean and the
+ * field. A {@link #reload() reload} loads the property sources again and re-injects only the fields whose property has
+ * changed. All changed fields are resolved before any of them is injected, so a reload that fails leaves every bean
+ * untouched. Beans whose properties did not change are not visited.</p>
+ * <p>The changed fields are then assigned one by one. Beans read their fields without taking any lock, so the update
+ * is per field and not atomic: a concurrent reader may see a mix of old and new values within one bean.</p>
+ * <p>Reloads are serialized from loading the sources to notifying the listeners, so snapshots are published, and
+ * reported, in the order they were loaded. Only the injection of the changed fields excludes the injection of new
+ * beans.</p>
+ */
+final class PropertyBindings {
+    private final List<PropertySource> sources;
+    private final BeanAccessorFactory accessorFactory;
+    private final Map<String, List<Binding>> bindings = new ConcurrentHashMap<>();
+    private final List<PropertyChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock reloadLock = new ReentrantLock();
+    private volatile PropertySnapshot properties;
+
+    /**
+     * Creates the bindings and loads the property sources.
+     *
+     * @param sources         the property sources, in order of precedence
+     * @param accessorFactory the factory of the field injectors
+     */
+    PropertyBindings(List<PropertySource> sources, BeanAccessorFactory accessorFactory) {
+        this.sources = sources;
+        this.accessorFactory = accessorFactory;
+        this.properties = PropertySnapshot.load(sources);
+    }
+
+    /**
+     * Gets the current properties.
+     *
+     * @return the current snapshot
+     */
+    PropertySnapshot getProperties() {
+        return properties;
+    }
+
+    /**
+     * Adds a listener notified after every reload that changed any property.
+     *
+     * @param listener the listener
+     */
+    void addListener(PropertyChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Injects the {@link Value} and {@link MultiValue} fields of the bean.
+     *
+     * @param bean      the bean
+     * @param plan      the injection plan of the bean
+     * @param singleton whether the bean is a singleton, whose fields are recorded for reloads
+     */
+    void inject(Object bean, InjectionPlan plan, boolean singleton) {
+        if (plan.getValueFields().isEmpty() && plan.getMultiValueFields().isEmpty()) {
+            return;
+        }
+        if (!singleton) {
+            injectAll(bean, plan, properties);
+            return;
+        }
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            injectAll(bean, plan, properties);
+            for (Field field : plan.getValueFields()) {
+                record(new Binding(bean, field, false));
+            }
+            for (Field field : plan.getMultiValueFields()) {
+                record(new Binding(bean, field, true));
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void injectAll(Object bean, InjectionPlan plan, PropertySnapshot properties) {
+        for (Field field : plan.getValueFields()) {
+            accessorFactory.injector(field).inject(bean, ValueResolver.resolve(field, properties));
+        }
+        for (Field field : plan.getMultiValueFields()) {
+            accessorFactory.injector(field).inject(bean, MultiValueResolver.resolve(field, properties));
+        }
+    }
+
+    private void record(Binding binding) {
+        bindings.computeIfAbsent(binding.property(), property -> new CopyOnWriteArrayList<>()).add(binding);
+    }
+
+    /**
+     * Forgets the recorded fields of a singleton bean that has been removed from the context, so that reloads no
+     * longer inject it.
+     *
+     * @param bean the removed bean
+     */
+    void unbind(Object bean) {
+        InjectionPlan plan = InjectionPlan.of(bean.getClass());
+        for (Field field : plan.getValueFields()) {
+            unbind(bean, field.getAnnotation(Value.class).value());
+        }
+        for (Field field : plan.getMultiValueFields()) {
+            unbind(bean, field.getAnnotation(MultiValue.class).value());
+        }
+    }
+
+    private void unbind(Object bean, String property) {
+        List<Binding> bound = bindings.get(property);
+        if (bound != null) {
+            bound.removeIf(binding -> binding.bean() == bean);
+        }
+    }
+
+    /**
+     * Loads the property sources again and re-injects the fields of the singleton beans whose property has changed.
+     * The new snapshot is published only after all changed fields have been injected, and the listeners are notified
+     * afterwards. A listener that throws does not prevent the other listeners from being notified, and does not fail
+     * the reload: its exception is handed to the uncaught exception handler of the current thread.
+     *
+     * @return the names of the changed properties
+     * @throws RuntimeException if a changed property cannot be resolved, in which case nothing is changed
+     */
+    Set<String> reload() {
+        reloadLock.lock();
+        try {
+            PropertySnapshot reloaded = PropertySnapshot.load(sources);
+            PropertySnapshot previous = properties;
+            Set<String> changed = previous.changedNames(reloaded);
+            if (!changed.isEmpty()) {
+                publish(reloaded, changed);
+                notifyListeners(new PropertyChangeEvent(changed, previous, reloaded));
+            }
+            return changed;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void publish(PropertySnapshot reloaded, Set<String> changed) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            List<Binding> affected = new ArrayList<>();
+            List<Object> values = new ArrayList<>();
+            for (String property : changed) {
+                for (Binding binding : bindings.getOrDefault(property, List.of())) {
+                    affected.add(binding);
+                    values.add(binding.multiValue()
+                            ? MultiValueResolver.resolve(binding.field(), reloaded)
+                            : ValueResolver.resolve(binding.field(), reloaded));
+                }
+            }
+            for (int i = 0; i < affected.size(); i++) {
+                Binding binding = affected.get(i);
+                accessorFactory.injector(binding.field()).inject(binding.bean(), values.get(i));
+            }
+            properties = reloaded;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void notifyListeners(PropertyChangeEvent event) {
+        for (PropertyChangeListener listener : listeners) {
+            try {
+                listener.propertiesChanged(event);
+            } catch (RuntimeException e) {
+                uncaught(e);
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners that a reload triggered by a file change failed. As after a successful reload, the
+     * exceptions of the listeners are handed to the uncaught exception handler of the current thread.
+     *
+     * @param e the cause of the failure
+     */
+    void reloadFailed(RuntimeException e) {
+        for (PropertyChangeListener listener : listeners) {
+            try {
+                listener.reloadFailed(e);
+            } catch (RuntimeException listenerFailure) {
+                uncaught(listenerFailure);
+            }
+        }
+    }
+
+    private static void uncaught(RuntimeException e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    private record Binding(Object bean, Field field, boolean multiValue) {
+        String property() {
+            return multiValue ? field.getAnnotation(MultiValue.class).value() : field.getAnnotation(Value.class).value();
+        }
+    }
+}
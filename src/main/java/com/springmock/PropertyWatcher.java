@@ -0,0 +1,109 @@
+package com.springmock;
+
+import com.springmock.exceptions.PropertySourceException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>The {@link PropertyWatcher} class watches the files of the file-backed property sources with a
+ * {@link WatchService} and reloads the {@link PropertyBindings} whenever one of them is created, modified or
+ * deleted.</p>
+ * <p>The watcher runs on a single daemon thread, so reloads never overlap. Events arriving in quick succession, as
+ * produced by editors that write a file in several steps, are coalesced into a single reload. A failed reload is
+ * reported to the listeners and the watcher keeps running, including when a memory-mapped file was truncated while it
+ * was read, which surfaces as an {@link InternalError} rather than an exception.</p>
+ */
+final class PropertyWatcher implements Closeable {
+    private static final long SETTLE_MILLIS = 50;
+
+    private final WatchService watchService;
+    private final Set<Path> files = new HashSet<>();
+    private final PropertyBindings bindings;
+    private final Thread thread;
+
+    /**
+     * Starts watching the specified files.
+     *
+     * @param files    the files to watch
+     * @param bindings the bindings to reload
+     * @throws IOException if the directories of the files cannot be watched
+     */
+    PropertyWatcher(List<Path> files, PropertyBindings bindings) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.bindings = bindings;
+        Set<Path> directories = new HashSet<>();
+        for (Path file : files) {
+            Path absolute = file.toAbsolutePath().normalize();
+            this.files.add(absolute);
+            directories.add(absolute.getParent());
+        }
+        for (Path directory : directories) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+        this.thread = new Thread(this::watch, "springmock-property-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = poll(key);
+                WatchKey next;
+                while ((next = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= poll(next);
+                }
+                if (changed) {
+                    try {
+                        bindings.reload();
+                    } catch (RuntimeException e) {
+                        bindings.reloadFailed(e);
+                    } catch (Error e) {
+                        bindings.reloadFailed(new PropertySourceException("Unable to reload the properties", e));
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // the watcher has been closed
+        }
+    }
+
+    private boolean poll(WatchKey key) {
+        Path directory = (Path) key.watchable();
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path name && files.contains(directory.resolve(name))) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Stops watching the files. The watch service is closed, which wakes up the watching thread. The thread is not
+     * interrupted, as an interrupt would close a file channel read by a running reload. Such a reload completes and
+     * the thread stops afterwards.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -0,0 +1,22 @@
+package com.springmock;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * The {@link StartupPhaseEvent} is the JDK Flight Recorder event emitted for every phase recorded by a
+ * {@link StartupRecorder}.
+ */
+@Name("com.springmock.StartupPhase")
+@Label("Startup Phase")
+@Category({"SpringMock", "Startup"})
+@Description("Time spent in a phase of the startup of an application context")
+@StackTrace(false)
+final class StartupPhaseEvent extends jdk.jfr.Event {
+    @Label("Phase")
+    String phase;
+}
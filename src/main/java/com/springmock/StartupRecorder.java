@@ -0,0 +1,173 @@
+package com.springmock;
+
+import com.springmock.startup.StartupReport;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * <p>The {@link StartupRecorder} class collects the timings of the startup of an {@link ApplicationContext} and turns
+ * them into a {@link StartupReport}. Every recorded timing is also emitted as a {@link StartupPhaseEvent} or
+ * {@link BeanStartupEvent} to JDK Flight Recorder.</p>
+ * <p>The context calls {@link #phase(String)} or {@link #bean(Class, BeanStep)} before a measured step, which begins
+ * the event, and {@link Timing#stop()} afterwards, which commits it, so the duration of the event is the duration of
+ * the step. The {@link #disabled() disabled} recorder does not read the clock and hands out a shared timing that
+ * ignores {@link Timing#stop()}, so instrumentation costs only a predictable branch when it is turned off.</p>
+ */
+final class StartupRecorder {
+    private static final StartupRecorder DISABLED = new StartupRecorder(false);
+
+    private final boolean enabled;
+    private final long started;
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<Class<?>, AtomicLongArray> beans = new ConcurrentHashMap<>();
+
+    private StartupRecorder(boolean enabled) {
+        this.enabled = enabled;
+        this.started = enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Creates a recorder that starts measuring the startup now.
+     *
+     * @return the new recorder
+     */
+    static StartupRecorder create() {
+        return new StartupRecorder(true);
+    }
+
+    /**
+     * Gets the recorder that ignores all timings.
+     *
+     * @return the disabled recorder
+     */
+    static StartupRecorder disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Starts measuring a startup phase.
+     *
+     * @param name the name of the phase
+     * @return the timing to stop once the phase is done
+     */
+    Timing phase(String name) {
+        if (!enabled) {
+            return Timing.DISABLED;
+        }
+        StartupPhaseEvent event = new StartupPhaseEvent();
+        event.phase = name;
+        event.begin();
+        return new Timing(this, name, null, null, event);
+    }
+
+    /**
+     * Starts measuring a step of the creation of a bean.
+     *
+     * @param type the class of the bean
+     * @param step the step of the creation
+     * @return the timing to stop once the step is done
+     */
+    Timing bean(Class<?> type, BeanStep step) {
+        if (!enabled) {
+            return Timing.DISABLED;
+        }
+        BeanStartupEvent event = new BeanStartupEvent();
+        event.beanClass = type;
+        event.step = step.name();
+        event.begin();
+        return new Timing(this, null, type, step, event);
+    }
+
+    private void record(Timing timing, long nanos) {
+        if (timing.phase != null) {
+            synchronized (phases) {
+                phases.merge(timing.phase, nanos, Long::sum);
+            }
+        } else {
+            beans.computeIfAbsent(timing.type, t -> new AtomicLongArray(BeanStep.values().length))
+                    .addAndGet(timing.step.ordinal(), nanos);
+        }
+        timing.event.end();
+        if (timing.event.shouldCommit()) {
+            timing.event.commit();
+        }
+    }
+
+    /**
+     * Creates the report of the timings recorded so far.
+     *
+     * @return the report, or {@code null} if the recorder is disabled
+     */
+    StartupReport report() {
+        if (!enabled) {
+            return null;
+        }
+        List<StartupReport.PhaseTiming> phaseTimings = new ArrayList<>();
+        synchronized (phases) {
+            phases.forEach((name, nanos) -> phaseTimings.add(new StartupReport.PhaseTiming(name, nanos)));
+        }
+        List<StartupReport.BeanTiming> beanTimings = new ArrayList<>(beans.size());
+        beans.forEach((type, nanos) -> beanTimings.add(new StartupReport.BeanTiming(type,
+                nanos.get(BeanStep.CONSTRUCTION.ordinal()),
+                nanos.get(BeanStep.AUTOWIRING.ordinal()),
+                nanos.get(BeanStep.VALUE_RESOLUTION.ordinal()))));
+        return new StartupReport(System.nanoTime() - started, phaseTimings, beanTimings);
+    }
+
+    /**
+     * A measured step in progress, either a phase or a step of the creation of a bean.
+     */
+    static final class Timing {
+        private static final Timing DISABLED = new Timing(null, null, null, null, null);
+
+        private final StartupRecorder recorder;
+        private final String phase;
+        private final Class<?> type;
+        private final BeanStep step;
+        private final jdk.jfr.Event event;
+        private final long start;
+
+        private Timing(StartupRecorder recorder, String phase, Class<?> type, BeanStep step, jdk.jfr.Event event) {
+            this.recorder = recorder;
+            this.phase = phase;
+            this.type = type;
+            this.step = step;
+            this.event = event;
+            this.start = recorder == null ? 0 : System.nanoTime();
+        }
+
+        /**
+         * Records the time spent since the timing was started and commits its event.
+         */
+        void stop() {
+            if (recorder != null) {
+                recorder.record(this, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * The steps of the creation of a bean.
+     */
+    enum BeanStep {
+        /**
+         * The call of the constructor of the bean.
+         */
+        CONSTRUCTION,
+        /**
+         * The injection of the fields annotated with {@link com.springmock.annotations.Autowired}.
+         */
+        AUTOWIRING,
+        /**
+         * The resolution of the fields annotated with {@link com.springmock.annotations.Value} and
+         * {@link com.springmock.annotations.MultiValue}.
+         */
+        VALUE_RESOLUTION
+    }
+}
@@ -4,7 +4,7 @@ import com.springmock.exceptions.CyclicDependencyException;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -15,34 +15,76 @@ import java.util.stream.Collectors;
  * <p>The {@link TopologicalSort} class is responsible for performing topological sort on a graph.</p>
  * The resulting sorted list will be in an order such that if bean A depends on bean B, then bean B will come before
  * bean A in the list.
+ * <p>The vertices are mapped to consecutive int ids and the edges are stored in compact {@code int[]} adjacency
+ * arrays. Both the sort and the cycle detection are iterative, so the depth of the graph is not limited by the size of
+ * the call stack.</p>
  */
 class TopologicalSort {
+    private static final byte UNVISITED = 0;
+    private static final byte ON_STACK = 1;
+    private static final byte DONE = 2;
 
 
     /**
-     * Performs depth-first search on the graph to construct the topologically sorted list of elements.
+     * Performs an iterative depth-first search on the graph to construct the topologically sorted ids of its vertices.
+     * The path from the root to the current vertex is kept in an explicit stack, together with the position of the
+     * next neighbor to visit for every vertex on the path.
      *
-     * @param graph            the graph of elements and their neighbors
-     * @param sortedComponents the list to store the sorted elements
-     * @param visited          a map indicating which elements have been visited
-     * @param vertex           the current vertex being visited
-     * @param recStack         a set used to keep track of visited nodes during the dfs traversal to detect cycles
-     * @throws CyclicDependencyException if a cycle is detected in the graph
+     * @param graph the indexed graph
+     * @return the ids of the vertices in topological order
+     * @throws CyclicDependencyException if a cycle is detected in the graph, reporting the vertices forming it
      */
-    private static <T> void dfs(Map<T, Set<T>> graph, List<T> sortedComponents, Map<T, Boolean> visited, T vertex, Set<T> recStack) {
-        if (recStack.contains(vertex)) {
-            throw new CyclicDependencyException("Cyclic dependencies discovered");
-        }
-        recStack.add(vertex);
-        for (T neighbor : graph.get(vertex)) {
-            if (!visited.get(vertex)) {
-                dfs(graph, sortedComponents, visited, neighbor, recStack);
+    private static int[] dfs(IndexedGraph<?> graph) {
+        int size = graph.size();
+        int[] sorted = new int[size];
+        int sortedCount = 0;
+        byte[] state = new byte[size];
+        int[] stack = new int[size];
+        int[] nextEdge = new int[size];
+        int[] stackPosition = new int[size];
+        for (int root = 0; root < size; root++) {
+            if (state[root] != UNVISITED) {
+                continue;
+            }
+            int top = 0;
+            stack[0] = root;
+            nextEdge[0] = graph.offsets[root];
+            stackPosition[root] = 0;
+            state[root] = ON_STACK;
+            while (top >= 0) {
+                int vertex = stack[top];
+                if (nextEdge[top] < graph.offsets[vertex + 1]) {
+                    int neighbor = graph.targets[nextEdge[top]++];
+                    if (state[neighbor] == ON_STACK) {
+                        throw cycle(graph, stack, stackPosition[neighbor], top);
+                    }
+                    if (state[neighbor] == UNVISITED) {
+                        top++;
+                        stack[top] = neighbor;
+                        nextEdge[top] = graph.offsets[neighbor];
+                        stackPosition[neighbor] = top;
+                        state[neighbor] = ON_STACK;
+                    }
+                } else {
+                    state[vertex] = DONE;
+                    sorted[sortedCount++] = vertex;
+                    top--;
+                }
             }
         }
-        recStack.remove(vertex);
-        visited.put(vertex, true);
-        sortedComponents.add(vertex);
+        return sorted;
+    }
 
+    private static CyclicDependencyException cycle(IndexedGraph<?> graph, int[] stack, int from, int top) {
+        List<Object> path = new ArrayList<>(top - from + 2);
+        for (int i = from; i <= top; i++) {
+            path.add(graph.vertices.get(stack[i]));
+        }
+        path.add(graph.vertices.get(stack[from]));
+        String description = path.stream()
+                .map(vertex -> vertex instanceof Class<?> clazz ? clazz.getName() : String.valueOf(vertex))
+                .collect(Collectors.joining(" -> "));
+        return new CyclicDependencyException("Cyclic dependencies discovered: " + description, path);
     }
 
     /**
@@ -52,23 +94,97 @@ class TopologicalSort {
      * @param graph The graph on which te sorting will be performed. The {@code graph} is constructed in a way, that
      *              keys of the map represents the vertices. For given vertex X, the {@code Set<T>} represents the
      *              vertices such that for any vertex Y from {@code Set<T>}, the edge X->Y exists. Simply the
-     *              neighbors.
+     *              neighbors. Neighbors that are not keys of the map are treated as vertices without neighbors.
      * @return The resulting sorted list of elements will be in an order such that if element A depends on element B,
      * then element B will come before element A in the list.
      * @throws CyclicDependencyException if a cycle is detected in the dependencies of the elements
      */
     public static <T> List<T> getSorted(@NotNull Map<T, Set<T>> graph) {
-        List<T> sortedComponents = new ArrayList<>();
-        Map<T, Boolean> visited = graph.keySet()
-                .stream()
-                .collect(Collectors.toMap(key -> key, key -> false));
-        for (var vertex : graph.keySet()) {
-            if (!visited.get(vertex)) {
-                dfs(graph, sortedComponents, visited, vertex, new HashSet<>());
-            }
+        IndexedGraph<T> indexed = new IndexedGraph<>(graph);
+        int[] sorted = dfs(indexed);
+        List<T> sortedComponents = new ArrayList<>(sorted.length);
+        for (int id : sorted) {
+            sortedComponents.add(indexed.vertices.get(id));
         }
         return sortedComponents;
     }
 
+    /**
+     * Groups the elements of the graph into levels. The elements without dependencies form the first level and every
+     * other element belongs to the level following the highest level of its dependencies, so the elements of a level
+     * depend only on elements of previous levels and never on each other.
+     *
+     * @param <T>   The type of the elements in the graph
+     * @param graph The graph of the elements and their neighbors, as described in {@link #getSorted(Map)}
+     * @return The levels of the graph, in the order they have to be processed
+     * @throws CyclicDependencyException if a cycle is detected in the dependencies of the elements
+     */
+    public static <T> List<List<T>> getLevels(@NotNull Map<T, Set<T>> graph) {
+        IndexedGraph<T> indexed = new IndexedGraph<>(graph);
+        int[] levelOf = new int[indexed.size()];
+        List<List<T>> levels = new ArrayList<>();
+        for (int vertex : dfs(indexed)) {
+            int level = 0;
+            for (int edge = indexed.offsets[vertex]; edge < indexed.offsets[vertex + 1]; edge++) {
+                level = Math.max(level, levelOf[indexed.targets[edge]] + 1);
+            }
+            levelOf[vertex] = level;
+            if (level == levels.size()) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level).add(indexed.vertices.get(vertex));
+        }
+        return levels;
+    }
+
+    /**
+     * The graph with its vertices mapped to consecutive ids. The neighbors of the vertex {@code v} are stored in
+     * {@code targets} between the indexes {@code offsets[v]} inclusive and {@code offsets[v + 1]} exclusive.
+     *
+     * @param <T> The type of the elements in the graph
+     */
+    private static final class IndexedGraph<T> {
+        private final List<T> vertices;
+        private final int[] offsets;
+        private final int[] targets;
+
+        private IndexedGraph(Map<T, Set<T>> graph) {
+            Map<T, Integer> ids = new HashMap<>(graph.size() * 2);
+            vertices = new ArrayList<>(graph.size());
+            int edges = 0;
+            for (var entry : graph.entrySet()) {
+                id(ids, entry.getKey());
+                edges += entry.getValue().size();
+            }
+            for (Set<T> neighbors : graph.values()) {
+                for (T neighbor : neighbors) {
+                    id(ids, neighbor);
+                }
+            }
+            offsets = new int[vertices.size() + 1];
+            targets = new int[edges];
+            for (int vertex = 0; vertex < vertices.size(); vertex++) {
+                Set<T> neighbors = graph.get(vertices.get(vertex));
+                int edge = offsets[vertex];
+                if (neighbors != null) {
+                    for (T neighbor : neighbors) {
+                        targets[edge++] = ids.get(neighbor);
+                    }
+                }
+                offsets[vertex + 1] = edge;
+            }
+        }
+
+        private void id(Map<T, Integer> ids, T vertex) {
+            if (ids.putIfAbsent(vertex, vertices.size()) == null) {
+                vertices.add(vertex);
+            }
+        }
+
+        private int size() {
+            return vertices.size();
+        }
+    }
+
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,219 @@
+package com.springmock;
+
+import com.springmock.exceptions.NoUniqueBeanException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+/**
+ * <p>The {@link TypeIndex} class maps every type a bean can be requested or injected as to the class of that bean. Besides
+ * the class of the bean itself, these are all its superclasses and interfaces, except {@link Object}.</p>
+ * <p>The supertypes of each class are computed once and cached in a {@link ClassValue}. The index itself is built once
+ * per context, so resolving a bean by an interface is a single hash lookup, just like resolving it by its class. Types
+ * implemented by more than one bean are remembered as ambiguous and reported whenever they are resolved.</p>
+ * <p>The index of a child context refers to the index of its parent. {@link #resolve(Class)} only finds the beans of
+ * the index itself, which are the beans the child creates, while {@link #isResolvable(Class)} also looks at the
+ * parents, whose beans can be injected as well.</p>
+ */
+final class TypeIndex {
+    private static final ClassValue<List<Class<?>>> SUPERTYPES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            Set<Class<?>> supertypes = new LinkedHashSet<>();
+            collectSupertypes(type, supertypes);
+            return List.copyOf(supertypes);
+        }
+    };
+
+    private final Map<Class<?>, Class<?>> types;
+    private final Map<String, Class<?>> typesByName;
+    private final Map<Class<?>, List<Class<?>>> ambiguousTypes;
+    private final TypeIndex parent;
+
+    private TypeIndex(Map<Class<?>, Class<?>> types, Map<Class<?>, List<Class<?>>> ambiguousTypes, TypeIndex parent) {
+        this.types = Map.copyOf(types);
+        this.typesByName = types.keySet().stream().collect(Collectors.toMap(Class::getName, types::get, (a, b) -> a));
+        this.ambiguousTypes = Map.copyOf(ambiguousTypes);
+        this.parent = parent;
+    }
+
+    /**
+     * Builds the index of the specified components.
+     *
+     * @param components the components of the application
+     * @return the index
+     */
+    static TypeIndex of(Collection<Class<?>> components) {
+        return of(components, null);
+    }
+
+    /**
+     * Builds the index of the specified components of a child context.
+     *
+     * @param components the components created by the child context
+     * @param parent     the index of the parent context, or {@code null} if there is none
+     * @return the index
+     */
+    static TypeIndex of(Collection<Class<?>> components, TypeIndex parent) {
+        Map<Class<?>, Class<?>> types = new HashMap<>(components.size() * 4);
+        Map<Class<?>, List<Class<?>>> ambiguousTypes = new HashMap<>();
+        for (Class<?> component : components) {
+            types.put(component, component);
+        }
+        for (Class<?> component : components) {
+            for (Class<?> supertype : SUPERTYPES.get(component)) {
+                if (components.contains(supertype) || ambiguousTypes.containsKey(supertype)) {
+                    ambiguousTypes.computeIfPresent(supertype, (type, beans) -> append(beans, component));
+                    continue;
+                }
+                Class<?> existing = types.putIfAbsent(supertype, component);
+                if (existing != null && existing != component) {
+                    types.remove(supertype);
+                    ambiguousTypes.put(supertype, List.of(existing, component));
+                }
+            }
+        }
+        return new TypeIndex(types, ambiguousTypes, parent);
+    }
+
+    private static void collectSupertypes(Class<?> type, Set<Class<?>> supertypes) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (current != type) {
+                supertypes.add(current);
+            }
+            for (Class<?> anInterface : current.getInterfaces()) {
+                if (supertypes.add(anInterface)) {
+                    collectSupertypes(anInterface, supertypes);
+                }
+            }
+        }
+    }
+
+    private static List<Class<?>> append(List<Class<?>> beans, Class<?> bean) {
+        List<Class<?>> appended = new ArrayList<>(beans);
+        appended.add(bean);
+        return List.copyOf(appended);
+    }
+
+    /**
+     * Resolves the class of the bean that can be requested or injected as the specified type.
+     *
+     * @param type the requested type
+     * @return the class of the bean, or {@code null} if no bean is assignable to the type
+     * @throws NoUniqueBeanException if more than one bean is assignable to the type
+     */
+    Class<?> resolve(Class<?> type) {
+        Class<?> bean = types.get(type);
+        if (bean == null && !ambiguousTypes.isEmpty()) {
+            checkUnique(type);
+        }
+        return bean;
+    }
+
+    /**
+     * Checks whether a bean of this index or of any parent index can be injected as the specified type. A bean of the
+     * index itself hides the beans of the parents.
+     *
+     * @param type the requested type
+     * @return true if the type can be injected
+     * @throws NoUniqueBeanException if more than one bean of the same index is assignable to the type
+     */
+    boolean isResolvable(Class<?> type) {
+        for (TypeIndex index = this; index != null; index = index.parent) {
+            if (index.resolve(type) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolves the class of the bean that can be injected as the type with the specified binary name.
+     *
+     * @param typeName the binary name of the requested type
+     * @return the class of the bean, or {@code null} if no bean is assignable to the type
+     * @throws NoUniqueBeanException if more than one bean is assignable to the type
+     */
+    Class<?> resolve(String typeName) {
+        Class<?> bean = typeName == null ? null : typesByName.get(typeName);
+        if (bean == null) {
+            for (Class<?> ambiguousType : ambiguousTypes.keySet()) {
+                if (ambiguousType.getName().equals(typeName)) {
+                    checkUnique(ambiguousType);
+                }
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Gets the types the specified bean of the index is resolved by: its class and every supertype that no other bean
+     * of the index implements.
+     *
+     * @param bean the class of the bean
+     * @return the types resolved to the bean
+     */
+    List<Class<?>> getTypesOf(Class<?> bean) {
+        List<Class<?>> resolvedTypes = new ArrayList<>();
+        resolvedTypes.add(bean);
+        for (Class<?> supertype : SUPERTYPES.get(bean)) {
+            if (types.get(supertype) == bean) {
+                resolvedTypes.add(supertype);
+            }
+        }
+        return resolvedTypes;
+    }
+
+    /**
+     * Gets the types that resolve differently in the specified index, among the specified component and its
+     * supertypes. When the indexes differ only by that component, these are the only types whose resolution has
+     * changed: each of them now resolves to another bean, to no bean or to more than one bean.
+     *
+     * @param other     the other index
+     * @param component the component added or removed between the indexes
+     * @return the types whose resolution differs
+     */
+    Set<Class<?>> getChangedTypes(TypeIndex other, Class<?> component) {
+        Set<Class<?>> changed = new HashSet<>();
+        if (!Objects.equals(candidates(component), other.candidates(component))) {
+            changed.add(component);
+        }
+        for (Class<?> supertype : SUPERTYPES.get(component)) {
+            if (!Objects.equals(candidates(supertype), other.candidates(supertype))) {
+                changed.add(supertype);
+            }
+        }
+        return changed;
+    }
+
+    private Object candidates(Class<?> type) {
+        Class<?> bean = types.get(type);
+        return bean != null ? bean : ambiguousTypes.get(type);
+    }
+
+    /**
+     * Gets the classes of all beans in the index.
+     *
+     * @return the set of bean classes
+     */
+    Set<Class<?>> getBeanTypes() {
+        return Set.copyOf(types.values());
+    }
+
+    private void checkUnique(Class<?> type) {
+        List<Class<?>> beans = ambiguousTypes.get(type);
+        if (beans != null) {
+            throw new NoUniqueBeanException(String.format("%s is implemented by more than one bean: %s",
+                    type.getName(), beans.stream().map(Class::getName).collect(Collectors.joining(", "))));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.springmock.accessors;
+
+import com.springmock.ApplicationContext;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+/**
+ * <p>The {@link BeanAccessorFactory} creates the accessors the {@link ApplicationContext} uses to instantiate beans
+ * and to inject their fields.</p>
+ * <p>Three implementations are provided: {@link #reflective()}, which calls {@link Constructor#newInstance} and
+ * {@link Field#set} directly, {@link #methodHandles()}, which turns every constructor and field into a cached
+ * {@link java.lang.invoke.MethodHandle} that the JIT can inline, and {@link #generated()}, which uses the
+ * {@link ComponentFactory component factories} generated at build time.</p>
+ * <p>The accessor factories make the fields accessible themselves when they need to, so fields covered by generated
+ * factories are never opened with {@link Field#setAccessible(boolean)}.</p>
+ */
+public interface BeanAccessorFactory {
+
+    /**
+     * Gets the factory that uses the core reflection API.
+     *
+     * @return the reflective factory
+     */
+    static BeanAccessorFactory reflective() {
+        return ReflectiveAccessorFactory.INSTANCE;
+    }
+
+    /**
+     * Gets a factory that uses cached method handles and falls back to reflection for members that cannot be
+     * unreflected.
+     *
+     * @return a new method handle based factory
+     */
+    static BeanAccessorFactory methodHandles() {
+        return new MethodHandleAccessorFactory();
+    }
+
+    /**
+     * Gets a factory that uses the {@link ComponentFactory component factories} generated at build time and falls back
+     * to {@link #methodHandles() method handles} for components and members without a generated factory.
+     *
+     * @return a new factory of generated accessors
+     */
+    static BeanAccessorFactory generated() {
+        return new GeneratedAccessorFactory(methodHandles());
+    }
+
+    /**
+     * Gets the instantiator of the specified constructor.
+     *
+     * @param constructor the constructor
+     * @return the instantiator calling the constructor
+     */
+    Instantiator instantiator(Constructor<?> constructor);
+
+    /**
+     * Gets the injector of the specified field.
+     *
+     * @param field the field
+     * @return the injector setting the field
+     */
+    FieldInjector injector(Field field);
+}
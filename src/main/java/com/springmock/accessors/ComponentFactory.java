@@ -0,0 +1,47 @@
+package com.springmock.accessors;
+
+/**
+ * <p>A {@link ComponentFactory} instantiates a single component and injects its fields with plain Java code instead of
+ * reflection. Factories are generated at build time by the {@code ComponentFactoryProcessor} when the
+ * {@code springmock.factories} processor option is set, and are registered in the {@link java.util.ServiceLoader}
+ * configuration of this interface, where the {@link BeanAccessorFactory#generated() generated} accessor factory finds
+ * them.</p>
+ * <p>The factory of the component {@code com.example.Outer$Inner} is the class
+ * {@code com.example.Outer_Inner_ComponentFactory}. It covers the public constructors of the component and its
+ * {@code @Autowired}, {@code @Value} and {@code @MultiValue} fields that are neither private nor final. Every other
+ * member is left to the fallback accessors.</p>
+ */
+public interface ComponentFactory {
+    /**
+     * The suffix appended to the name of the component to form the name of its factory.
+     */
+    String SUFFIX = "_ComponentFactory";
+
+    /**
+     * Gets the binary name of the factory of the specified component.
+     *
+     * @param component the component
+     * @return the binary name of the factory class
+     */
+    static String factoryName(Class<?> component) {
+        String packageName = component.getPackageName();
+        String simpleName = component.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + '.') + simpleName.replace('$', '_') + SUFFIX;
+    }
+
+    /**
+     * Gets the instantiator calling the public constructor with the specified parameter types.
+     *
+     * @param parameterTypes the parameter types of the constructor
+     * @return the instantiator, or {@code null} if the factory does not cover the constructor
+     */
+    Instantiator instantiator(Class<?>[] parameterTypes);
+
+    /**
+     * Gets the injector assigning the field with the specified name.
+     *
+     * @param field the name of the field
+     * @return the injector, or {@code null} if the factory does not cover the field
+     */
+    FieldInjector injector(String field);
+}
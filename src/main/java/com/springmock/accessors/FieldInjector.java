@@ -0,0 +1,18 @@
+package com.springmock.accessors;
+
+import com.springmock.exceptions.UnableToSetValueException;
+
+/**
+ * Sets the value of a previously resolved field of a bean.
+ */
+@FunctionalInterface
+public interface FieldInjector {
+    /**
+     * Sets the value of the field.
+     *
+     * @param bean  the bean whose field is set
+     * @param value the value to set
+     * @throws UnableToSetValueException if the value cannot be set
+     */
+    void inject(Object bean, Object value);
+}
@@ -0,0 +1,108 @@
+package com.springmock.accessors;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>The {@link GeneratedAccessorFactory} creates accessors backed by the {@link ComponentFactory component factories}
+ * generated at build time, which call constructors and assign fields without reflection.</p>
+ * <p>The factories are registered in the {@link java.util.ServiceLoader} configuration files of
+ * {@link ComponentFactory}. Only the names listed in these files are read up front, and the factory of a component is
+ * loaded and instantiated when the component is first created, so the factories of components that are never created
+ * are never loaded. The factory instances are cached per component and shared by all contexts. Components without a
+ * factory, and members a factory does not cover, use the fallback accessor factory.</p>
+ */
+final class GeneratedAccessorFactory implements BeanAccessorFactory {
+    private static final String SERVICES_LOCATION = "META-INF/services/" + ComponentFactory.class.getName();
+    private static final ClassValue<Optional<ComponentFactory>> FACTORIES = new ClassValue<>() {
+        @Override
+        protected Optional<ComponentFactory> computeValue(Class<?> component) {
+            return load(component);
+        }
+    };
+
+    private final BeanAccessorFactory fallback;
+    private final Map<Constructor<?>, Instantiator> instantiators = new ConcurrentHashMap<>();
+    private final Map<Field, FieldInjector> injectors = new ConcurrentHashMap<>();
+
+    GeneratedAccessorFactory(BeanAccessorFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Instantiator instantiator(Constructor<?> constructor) {
+        return instantiators.computeIfAbsent(constructor, this::createInstantiator);
+    }
+
+    @Override
+    public FieldInjector injector(Field field) {
+        return injectors.computeIfAbsent(field, this::createInjector);
+    }
+
+    private Instantiator createInstantiator(Constructor<?> constructor) {
+        Instantiator instantiator = FACTORIES.get(constructor.getDeclaringClass())
+                .map(factory -> factory.instantiator(constructor.getParameterTypes()))
+                .orElse(null);
+        return instantiator != null ? instantiator : fallback.instantiator(constructor);
+    }
+
+    private FieldInjector createInjector(Field field) {
+        FieldInjector injector = FACTORIES.get(field.getDeclaringClass())
+                .map(factory -> factory.injector(field.getName()))
+                .orElse(null);
+        return injector != null ? injector : fallback.injector(field);
+    }
+
+    private static Optional<ComponentFactory> load(Class<?> component) {
+        String name = ComponentFactory.factoryName(component);
+        if (!Registered.NAMES.contains(name)) {
+            return Optional.empty();
+        }
+        try {
+            Class<?> type = Class.forName(name, true, component.getClassLoader());
+            return Optional.of((ComponentFactory) type.getConstructor().newInstance());
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Holds the names of all registered factories, read from the service configuration files on first use.
+     */
+    private static final class Registered {
+        private static final Set<String> NAMES = read(GeneratedAccessorFactory.class.getClassLoader());
+
+        private static Set<String> read(ClassLoader classLoader) {
+            Set<String> names = new HashSet<>();
+            try {
+                for (URL resource : Collections.list(classLoader.getResources(SERVICES_LOCATION))) {
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            int comment = line.indexOf('#');
+                            String name = (comment < 0 ? line : line.substring(0, comment)).trim();
+                            if (!name.isEmpty()) {
+                                names.add(name);
+                            }
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                return Set.of();
+            }
+            return Set.copyOf(names);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.springmock.accessors;
+
+import com.springmock.exceptions.UnableToCreateBeanException;
+
+/**
+ * Creates a new instance of a bean using a previously chosen constructor.
+ */
+@FunctionalInterface
+public interface Instantiator {
+    /**
+     * Creates a new instance of the bean.
+     *
+     * @param args the constructor arguments
+     * @return the new instance
+     * @throws UnableToCreateBeanException if the instance cannot be created
+     */
+    Object newInstance(Object[] args);
+}
@@ -0,0 +1,84 @@
+package com.springmock.accessors;
+
+import com.springmock.exceptions.UnableToCreateBeanException;
+import com.springmock.exceptions.UnableToSetValueException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>The {@link MethodHandleAccessorFactory} creates accessors backed by method handles. Every constructor is
+ * unreflected once and adapted to take an {@code Object[]} of arguments, every field is unreflected into a setter
+ * taking the bean and the value, and the resulting accessors are cached per member.</p>
+ * <p>Members that cannot be unreflected, such as static final fields, fall back to the
+ * {@link ReflectiveAccessorFactory}.</p>
+ */
+final class MethodHandleAccessorFactory implements BeanAccessorFactory {
+    private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType INJECTOR_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private final Map<Constructor<?>, Instantiator> instantiators = new ConcurrentHashMap<>();
+    private final Map<Field, FieldInjector> injectors = new ConcurrentHashMap<>();
+
+    @Override
+    public Instantiator instantiator(Constructor<?> constructor) {
+        return instantiators.computeIfAbsent(constructor, this::createInstantiator);
+    }
+
+    @Override
+    public FieldInjector injector(Field field) {
+        return injectors.computeIfAbsent(field, this::createInjector);
+    }
+
+    private Instantiator createInstantiator(Constructor<?> constructor) {
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(INSTANTIATOR_TYPE);
+        } catch (IllegalAccessException e) {
+            return ReflectiveAccessorFactory.INSTANCE.instantiator(constructor);
+        }
+        return args -> {
+            try {
+                return (Object) handle.invokeExact(args);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UnableToCreateBeanException(
+                        "Unable to create " + constructor.getDeclaringClass().getName() + ": " + e, e);
+            }
+        };
+    }
+
+    private FieldInjector createInjector(Field field) {
+        MethodHandle handle;
+        try {
+            field.setAccessible(true);
+            handle = lookup.unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asType(INJECTOR_TYPE);
+        } catch (IllegalAccessException e) {
+            return ReflectiveAccessorFactory.INSTANCE.injector(field);
+        }
+        MethodHandle setter = handle;
+        return (bean, value) -> {
+            try {
+                setter.invokeExact(bean, value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UnableToSetValueException("Unable to set " + field + ": " + e, e);
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.springmock.accessors;
+
+import com.springmock.exceptions.UnableToCreateBeanException;
+import com.springmock.exceptions.UnableToSetValueException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * The {@link ReflectiveAccessorFactory} creates accessors that call {@link Constructor#newInstance} and
+ * {@link Field#set}. The exception thrown by a constructor is unwrapped from its {@link InvocationTargetException}, so
+ * the failures are reported like those of the other accessors.
+ */
+final class ReflectiveAccessorFactory implements BeanAccessorFactory {
+    static final ReflectiveAccessorFactory INSTANCE = new ReflectiveAccessorFactory();
+
+    private ReflectiveAccessorFactory() {
+    }
+
+    @Override
+    public Instantiator instantiator(Constructor<?> constructor) {
+        return args -> {
+            try {
+                return constructor.newInstance(args);
+            } catch (InvocationTargetException e) {
+                Throwable failure = e.getTargetException();
+                if (failure instanceof Error error) {
+                    throw error;
+                }
+                throw failure(constructor, failure);
+            } catch (InstantiationException | IllegalAccessException | IllegalArgumentException e) {
+                throw failure(constructor, e);
+            }
+        };
+    }
+
+    private static UnableToCreateBeanException failure(Constructor<?> constructor, Throwable failure) {
+        return new UnableToCreateBeanException(
+                "Unable to create " + constructor.getDeclaringClass().getName() + ": " + failure, failure);
+    }
+
+    @Override
+    public FieldInjector injector(Field field) {
+        field.setAccessible(true);
+        return (bean, value) -> {
+            try {
+                field.set(bean, value);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new UnableToSetValueException("Unable to set " + field + ": " + e, e);
+            }
+        };
+    }
+}
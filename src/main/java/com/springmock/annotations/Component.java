@@ -15,4 +15,17 @@ import java.lang.annotation.Target;
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Component {
+    /**
+     * The name of the bean. If empty, the simple name of the class is used.
+     *
+     * @return the name of the bean
+     */
+    String value() default "";
+
+    /**
+     * Additional names under which the bean can be looked up.
+     *
+     * @return the aliases of the bean
+     */
+    String[] aliases() default {};
 }
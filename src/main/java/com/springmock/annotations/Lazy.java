@@ -0,0 +1,25 @@
+package com.springmock.annotations;
+
+import com.springmock.ApplicationContext;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * The {@link Lazy} annotation marks a {@link Component} that the {@link ApplicationContext} creates on first use
+ * instead of at startup. It overrides the default set for the whole context, so {@code @Lazy(false)} makes a component
+ * eager in a lazy context.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Lazy {
+    /**
+     * Whether the component is created on first use.
+     *
+     * @return true if the component is lazy
+     */
+    boolean value() default true;
+}
@@ -7,8 +7,11 @@ import java.lang.annotation.Target;
 
 
 /**
- * Indicates that a field is a {@link MultiValue} field and specifies the environment variable that contains the values
- * and the delimiter as default used to separate the values.
+ * <p>Indicates that a field is a {@link MultiValue} field and specifies the environment variable that contains the
+ * values and the delimiter as default used to separate the values.</p>
+ * <p>As with {@link String#split(String)}, trailing empty values are dropped, so {@code 1,2,} holds the values
+ * {@code 1} and {@code 2}. A backslash is an ordinary character unless {@link #escape()} is enabled.</p>
+ * <p>{@code List}, {@code Set} and {@code Map} fields receive new mutable collections.</p>
  *
  * @see Value
  */
@@ -17,5 +20,32 @@ import java.lang.annotation.Target;
 public @interface MultiValue {
     String value();
 
+    /**
+     * The delimiter of the values. It is matched as literal text.
+     *
+     * @return the delimiter
+     */
     String delimiter() default ",";
+
+    /**
+     * The delimiter of the key and the value of each entry, used only by {@code Map} fields.
+     *
+     * @return the key/value delimiter
+     */
+    String keyValueDelimiter() default ":";
+
+    /**
+     * Whether surrounding whitespace is removed from every value.
+     *
+     * @return true if the values are trimmed
+     */
+    boolean trim() default true;
+
+    /**
+     * Whether a backslash in the content escapes the character following it, so that a delimiter can be part of a
+     * value, as in {@code a\,b}. Disabled by default, so that values such as Windows paths keep their backslashes.
+     *
+     * @return true if backslashes escape the following character
+     */
+    boolean escape() default false;
 }
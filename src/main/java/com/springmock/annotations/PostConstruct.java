@@ -0,0 +1,24 @@
+package com.springmock.annotations;
+
+import com.springmock.ApplicationContext;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * The {@link PostConstruct} annotation marks a method without parameters of a {@link Component} that the
+ * {@link ApplicationContext} calls once the component has been created and all its fields have been injected.
+ * <p>A method returning a {@link java.util.concurrent.CompletionStage}, such as a
+ * {@link java.util.concurrent.CompletableFuture}, may finish its work asynchronously: the component is initialized
+ * once the returned stage is complete. The initialization of a component only starts once all its dependencies have
+ * been initialized.</p>
+ *
+ * @see ApplicationContext#awaitReady()
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PostConstruct {
+}
@@ -0,0 +1,24 @@
+package com.springmock.annotations;
+
+import com.springmock.ApplicationContext;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * The {@link PreDestroy} annotation marks a method without parameters of a singleton {@link Component} that the
+ * {@link ApplicationContext} calls when it is {@link ApplicationContext#close() closed}, to release the resources held
+ * by the component.
+ * <p>A component is destroyed only once all components depending on it have been destroyed. A method returning a
+ * {@link java.util.concurrent.CompletionStage} may finish its work asynchronously, and the component is destroyed once
+ * the returned stage is complete.</p>
+ *
+ * @see com.springmock.ContextConfiguration#shutdownTimeout(java.time.Duration)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PreDestroy {
+}
@@ -0,0 +1,18 @@
+package com.springmock.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * The {@link Reset} annotation marks a method without parameters of a {@link Scope#POOLED pooled} component that
+ * restores the instance to a reusable state before it is returned to the pool.
+ *
+ * @see Scope
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Reset {
+}
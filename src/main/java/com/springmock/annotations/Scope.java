@@ -0,0 +1,43 @@
+package com.springmock.annotations;
+
+import com.springmock.ApplicationContext;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * <p>The {@link Scope} annotation sets how many instances of a {@link Component} the {@link ApplicationContext}
+ * creates.</p>
+ * <ul>
+ *     <li>{@value #SINGLETON} - a single instance is shared by every caller, this is the default.</li>
+ *     <li>{@value #PROTOTYPE} - every {@code getBean} call and every injection point gets a new, fully injected
+ *     instance.</li>
+ *     <li>{@value #POOLED} - like {@value #PROTOTYPE}, but instances handed back with
+ *     {@link ApplicationContext#release(Object)} are reset with their {@link Reset} methods and kept in a bounded pool
+ *     of {@link #poolSize()} instances, which are reused before new instances are created.</li>
+ * </ul>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Scope {
+    String SINGLETON = "singleton";
+    String PROTOTYPE = "prototype";
+    String POOLED = "pooled";
+
+    /**
+     * The scope of the component.
+     *
+     * @return one of {@value #SINGLETON}, {@value #PROTOTYPE} or {@value #POOLED}
+     */
+    String value() default SINGLETON;
+
+    /**
+     * The maximum number of idle instances kept by a {@value #POOLED} component.
+     *
+     * @return the size of the pool
+     */
+    int poolSize() default 16;
+}
@@ -1,62 +1,87 @@
 package com.springmock.annotations.resolvers;
 
 import com.springmock.annotations.MultiValue;
-import static com.springmock.annotations.resolvers.ValueParser.convert;
-import static com.springmock.annotations.resolvers.ValueParser.getContent;
+import com.springmock.annotations.resolvers.converters.Converter;
+import com.springmock.annotations.resolvers.converters.Converters;
 import static com.springmock.annotations.resolvers.ValueParser.isCollectionFieldOfSupportedParametrizedType;
 import static com.springmock.annotations.resolvers.ValueParser.isFieldOfSupportedCollectionType;
-import static com.springmock.annotations.resolvers.ValueParser.primitiveToWrapper;
+import static com.springmock.annotations.resolvers.converters.Converters.convert;
 import com.springmock.exceptions.IllegalTypeException;
+import com.springmock.exceptions.NoSuchEnvironmentVariable;
 import com.springmock.exceptions.UnmappableStringException;
+import com.springmock.properties.PropertySnapshot;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
- * The {@code MultiValueResolver} class is used to resolve multi-value fields annotated with {@link MultiValue}.
+ * <p>The {@code MultiValueResolver} class is used to resolve multi-value fields annotated with {@link MultiValue}.</p>
+ * <p>Every resolved {@code List}, {@code Set} and {@code Map} is a new mutable collection, an {@code ArrayList},
+ * {@code HashSet} or {@code HashMap}, owned by the field it is injected into.</p>
  */
 public class MultiValueResolver {
 
     /**
-     * Resolves the values for the specified {@code field}.
+     * Resolves the values for the specified {@code field} from the {@link PropertySnapshot#standard() standard}
+     * properties. The standard sources are loaded again on every call, so that later changes of the system properties
+     * are seen; callers resolving many fields should load a snapshot once and use
+     * {@link #resolve(Field, PropertySnapshot)}.
      *
      * @param field the field to resolve values for
      * @return the resolved values for the field
-     * @throws IllegalArgumentException if the field is not of a supported type or is not properly parametrized
+     * @throws IllegalArgumentException if the field is not of a supported type or is not properly parametrized, or if
+     *                                  a delimiter is empty
      */
-
     public static Object resolve(@NotNull Field field) {
+        return resolve(field, PropertySnapshot.standard());
+    }
+
+    /**
+     * Resolves the values for the specified {@code field} from the specified properties.
+     *
+     * @param field      the field to resolve values for
+     * @param properties the properties
+     * @return the resolved values for the field
+     * @throws IllegalArgumentException  if the field is not of a supported type or is not properly parametrized, or if
+     *                                   a delimiter is empty
+     * @throws NoSuchEnvironmentVariable if the property of the field is not defined
+     */
+    public static Object resolve(@NotNull Field field, @NotNull PropertySnapshot properties) {
         validateFieldType(field);
         MultiValue multiValue = field.getAnnotation(MultiValue.class);
-        String content = getContent(multiValue.value());
-        String[] contentArray = content.split(multiValue.delimiter());
+        validateDelimiters(field, multiValue);
+        CharSequence content = properties.get(multiValue.value());
+        if (content == null) {
+            throw new NoSuchEnvironmentVariable("Cannot find variable: " + multiValue.value());
+        }
+        MultiValueTokenizer tokenizer = new MultiValueTokenizer(content, multiValue.delimiter(), multiValue.trim(),
+                multiValue.escape());
         Class<?> type = field.getType();
 
         if (type.isArray() || type == List.class || type == Set.class || type == Map.class) {
             if (type.isArray()) {
                 Class<?> arrayType = type.getComponentType();
-                return parseArray(contentArray, arrayType, type);
+                return parseArray(tokenizer, arrayType, type);
             } else {
                 ParameterizedType parameterizedTypeField = (ParameterizedType) field.getGenericType();
                 Class<?> actualTypeArgument = (Class<?>) parameterizedTypeField.getActualTypeArguments()[0];
                 if (type == List.class) {
-                    return parseList(contentArray, actualTypeArgument);
+                    return parseList(tokenizer, actualTypeArgument);
                 } else if (type == Set.class) {
-                    return parseSet(contentArray, actualTypeArgument);
+                    return parseSet(tokenizer, actualTypeArgument);
                 } else {
                     Class<?> firstArgument = actualTypeArgument;
                     Class<?> secondArgument = (Class<?>) parameterizedTypeField.getActualTypeArguments()[1];
-                    return parseMap(contentArray, firstArgument, secondArgument);
+                    return parseMap(tokenizer, multiValue.keyValueDelimiter(), firstArgument, secondArgument);
                 }
             }
         } else {
@@ -64,47 +89,73 @@ public class MultiValueResolver {
         }
     }
 
-    private static <T, K> T parseArray(String[] contentArray, Class<K> arrayType, Class<T> type) {
-        return type.cast(getArray(contentArray, arrayType));
+    private static <T, K> T parseArray(MultiValueTokenizer tokenizer, Class<K> arrayType, Class<T> type) {
+        return type.cast(getArray(tokenizer, arrayType));
     }
 
-    private static <T> List<T> parseList(String[] contentArray, Class<T> actualTypeArgument) {
-        return Arrays.stream(contentArray).map(o -> convert(o, actualTypeArgument)).toList();
+    private static <T> List<T> parseList(MultiValueTokenizer tokenizer, Class<T> actualTypeArgument) {
+        Converter<T> converter = Converters.get(actualTypeArgument);
+        List<T> list = new ArrayList<>();
+        while (tokenizer.next()) {
+            list.add(convert(tokenizer.token(), converter, actualTypeArgument));
+        }
+        return list;
     }
 
-    private static <T> Set<T> parseSet(String[] contentArray, Class<T> actualTypeArgument) {
-        return Arrays.stream(contentArray).map(o -> convert(o, actualTypeArgument)).collect(Collectors.toSet());
+    private static <T> Set<T> parseSet(MultiValueTokenizer tokenizer, Class<T> actualTypeArgument) {
+        Converter<T> converter = Converters.get(actualTypeArgument);
+        Set<T> set = new HashSet<>();
+        while (tokenizer.next()) {
+            set.add(convert(tokenizer.token(), converter, actualTypeArgument));
+        }
+        return set;
     }
 
-    private static <K, V> Map<K, V> parseMap(String[] contentArray, Class<K> firstArgument, Class<V> secondArgument) {
-        return getMapFromString(contentArray, firstArgument, secondArgument);
+    /**
+     * Converts the elements of the tokenizer into a map where each element represents a key-value pair.
+     *
+     * @param tokenizer         the tokenizer of the content
+     * @param keyValueDelimiter the literal delimiter of the key and the value
+     * @param firstType         the type of the keys in the map
+     * @param secondType        the type of the values in the map
+     * @return the resulting map
+     * @throws UnmappableStringException if an element is not a pair or the conversion of any key or value fails
+     */
+    private static <K, V> Map<K, V> parseMap(MultiValueTokenizer tokenizer, String keyValueDelimiter,
+                                             Class<K> firstType, Class<V> secondType) {
+        Converter<K> keyConverter = Converters.get(firstType);
+        Converter<V> valueConverter = Converters.get(secondType);
+        Map<K, V> map = new HashMap<>();
+        while (tokenizer.next()) {
+            int separator = tokenizer.separatorIndex(keyValueDelimiter);
+            if (separator < 0) {
+                throw new UnmappableStringException("Cannot map: " + tokenizer.token());
+            }
+            map.put(convert(tokenizer.key(separator), keyConverter, firstType),
+                    convert(tokenizer.value(separator, keyValueDelimiter), valueConverter, secondType));
+        }
+        return map;
     }
 
     /**
-     * Converts an array of strings into an array of objects of a specified type.
+     * Converts the elements of the tokenizer into an array of a specified type. Arrays of primitives are filled
+     * directly by the {@link PrimitiveArrayParser}, without boxing the elements.
      *
-     * @param contentArray the array of strings to be converted
-     * @param arrayType    the type of the resulting array
-     * @return the resulting array of objects
-     * @throws RuntimeException if the conversion fails
+     * @param tokenizer the tokenizer of the content
+     * @param arrayType the component type of the resulting array
+     * @return the resulting array
+     * @throws UnmappableStringException if the conversion of any element fails
      */
-    private static Object getArray(String[] contentArray, Class<?> arrayType) {
-        Object array = Array.newInstance(arrayType, contentArray.length);
-        try {
-            Class<?> wrapType = arrayType.isPrimitive() ? primitiveToWrapper(arrayType) : arrayType;
-            Constructor<?> ctor = wrapType.getConstructor(String.class);
-            for (int i = 0; i < contentArray.length; ++i) {
-                Array.set(array, i, ctor.newInstance(contentArray[i]));
-            }
-            return array;
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException
-                 | InstantiationException ignored) {
-            System.out.printf("An error occurred while trying to create an array for of type: %s for %s%s",
-                    arrayType,
-                    Arrays.toString(contentArray),
-                    System.lineSeparator());
+    private static Object getArray(MultiValueTokenizer tokenizer, Class<?> arrayType) {
+        if (arrayType.isPrimitive()) {
+            return PrimitiveArrayParser.parse(tokenizer, arrayType);
+        }
+        Converter<?> converter = Converters.get(arrayType);
+        List<Object> elements = new ArrayList<>();
+        while (tokenizer.next()) {
+            elements.add(convert(tokenizer.token(), converter, arrayType));
         }
-        return array;
+        return elements.toArray((Object[]) Array.newInstance(arrayType, elements.size()));
     }
 
     /**
@@ -118,12 +169,15 @@ public class MultiValueResolver {
      */
     public static <T, K> Map<T, K> getMapFromString(String[] content, Class<T> firstType, Class<K> secondType) {
         Map<T, K> newMap = new HashMap<>(content.length);
+        Converter<T> keyConverter = Converters.get(firstType);
+        Converter<K> valueConverter = Converters.get(secondType);
         for (String pair : content) {
-            String[] keyValue = pair.split(":");
-            if (keyValue.length < 2) {
+            int separator = pair.indexOf(':');
+            if (separator < 0) {
                 throw new UnmappableStringException("Cannot map: " + Arrays.toString(content));
             }
-            newMap.put(convert(keyValue[0], firstType), convert(keyValue[1], secondType));
+            newMap.put(convert(pair.substring(0, separator), keyConverter, firstType),
+                    convert(pair.substring(separator + 1), valueConverter, secondType));
         }
         return newMap;
     }
@@ -144,4 +198,21 @@ public class MultiValueResolver {
                     String.format("Illegal type parametrized: %s%s", field.getType(), System.lineSeparator()));
         }
     }
+
+    /**
+     * Verifies that the delimiters of a field are not empty, as an empty delimiter would match between every two
+     * characters of the content.
+     *
+     * @param field      the field to be checked
+     * @param multiValue the annotation of the field
+     * @throws IllegalArgumentException if the delimiter, or the key/value delimiter of a {@code Map} field, is empty
+     */
+    private static void validateDelimiters(Field field, MultiValue multiValue) {
+        if (multiValue.delimiter().isEmpty()) {
+            throw new IllegalArgumentException("Empty delimiter of field: " + field);
+        }
+        if (field.getType() == Map.class && multiValue.keyValueDelimiter().isEmpty()) {
+            throw new IllegalArgumentException("Empty key/value delimiter of field: " + field);
+        }
+    }
 }
@@ -0,0 +1,249 @@
+package com.springmock.annotations.resolvers;
+
+import com.springmock.annotations.MultiValue;
+
+/**
+ * <p>The {@code MultiValueTokenizer} class splits the content of a {@link MultiValue} into its elements in a single
+ * pass. The delimiter is matched as literal text, not as a regular expression.</p>
+ * <p>Like {@link String#split(String)}, the tokenizer drops trailing empty elements, so {@code 1,2,} consists of the
+ * elements {@code 1} and {@code 2}. When trimming is enabled, surrounding whitespace of each element is removed and an
+ * element of whitespace only counts as empty. They are found by scanning back from the end of the content over
+ * delimiters and whitespace, which only reads the trailing empty elements themselves.</p>
+ * <p>When escaping is enabled, a backslash escapes the character following it, so {@code a\,b,c} consists of the
+ * elements {@code a,b} and {@code c}. Otherwise a backslash is an ordinary character.</p>
+ * <p>The tokenizer works as a cursor: {@link #next()} moves to the following element and {@link #token()} returns it.
+ * An element is copied into a {@code String} only when it is requested, and only elements containing escapes need an
+ * intermediate buffer. Integral elements can be parsed straight from the content with {@link #intToken()} and
+ * {@link #longToken()}, so the content may be a view of a large memory-mapped value.</p>
+ */
+final class MultiValueTokenizer {
+    private static final char ESCAPE = '\\';
+
+    private final CharSequence content;
+    private final String delimiter;
+    private final boolean trim;
+    private final boolean escape;
+    private final int end;
+    private int position;
+    private int tokenStart;
+    private int tokenEnd;
+    private boolean finished;
+
+    /**
+     * Creates a new tokenizer of the specified content.
+     *
+     * @param content   the content to be split
+     * @param delimiter the literal delimiter of the elements
+     * @param trim      whether surrounding whitespace of each element should be removed
+     * @param escape    whether a backslash escapes the character following it
+     * @throws IllegalArgumentException if the delimiter is empty
+     */
+    MultiValueTokenizer(CharSequence content, String delimiter, boolean trim, boolean escape) {
+        if (delimiter.isEmpty()) {
+            throw new IllegalArgumentException("The delimiter must not be empty");
+        }
+        this.content = content;
+        this.delimiter = delimiter;
+        this.trim = trim;
+        this.escape = escape;
+        this.end = endOfLastElement();
+        this.finished = end == 0;
+    }
+
+    /**
+     * Finds the end of the last element that is not empty, skipping the trailing empty elements.
+     *
+     * @return the end of the last element, or 0 if all elements are empty
+     */
+    private int endOfLastElement() {
+        int last = trimEnd(0, content.length());
+        while (last >= delimiter.length()) {
+            int start = last - delimiter.length();
+            if (!matches(delimiter, start) || isEscaped(start, 0)) {
+                break;
+            }
+            last = trimEnd(0, start);
+        }
+        return last;
+    }
+
+    /**
+     * Moves the cursor to the next element.
+     *
+     * @return true if there is a next element, false if all elements have been read
+     */
+    boolean next() {
+        if (finished) {
+            return false;
+        }
+        int next = indexOf(delimiter, position, end);
+        tokenStart = position;
+        if (next < 0) {
+            tokenEnd = end;
+            finished = true;
+        } else {
+            tokenEnd = next;
+            position = next + delimiter.length();
+        }
+        return true;
+    }
+
+    /**
+     * Gets the current element.
+     *
+     * @return the element, trimmed if enabled and with escapes removed
+     */
+    String token() {
+        return substring(tokenStart, tokenEnd);
+    }
+
+    /**
+     * Parses the current element as a decimal {@code int} directly from the content. The element is copied into a
+     * {@code String} only if it contains escapes.
+     *
+     * @return the value of the element
+     * @throws NumberFormatException if the element is not a valid {@code int}
+     */
+    int intToken() {
+        int start = trimStart(tokenStart, tokenEnd);
+        int end = trimEnd(start, tokenEnd);
+        if (indexOfEscape(start, end) >= 0) {
+            return Integer.parseInt(token());
+        }
+        return Integer.parseInt(content, start, end, 10);
+    }
+
+    /**
+     * Parses the current element as a decimal {@code long} directly from the content. The element is copied into a
+     * {@code String} only if it contains escapes.
+     *
+     * @return the value of the element
+     * @throws NumberFormatException if the element is not a valid {@code long}
+     */
+    long longToken() {
+        int start = trimStart(tokenStart, tokenEnd);
+        int end = trimEnd(start, tokenEnd);
+        if (indexOfEscape(start, end) >= 0) {
+            return Long.parseLong(token());
+        }
+        return Long.parseLong(content, start, end, 10);
+    }
+
+    /**
+     * Finds the first unescaped occurrence of the separator in the current element, used to split key/value pairs.
+     *
+     * @param separator the literal separator
+     * @return the index of the separator in the content, or -1 if the element does not contain it
+     */
+    int separatorIndex(String separator) {
+        return indexOf(separator, tokenStart, tokenEnd);
+    }
+
+    /**
+     * Gets the part of the current element before the separator found by {@link #separatorIndex(String)}.
+     *
+     * @param separatorIndex the index of the separator
+     * @return the key
+     */
+    String key(int separatorIndex) {
+        return substring(tokenStart, separatorIndex);
+    }
+
+    /**
+     * Gets the part of the current element after the separator found by {@link #separatorIndex(String)}.
+     *
+     * @param separatorIndex the index of the separator
+     * @param separator      the separator
+     * @return the value
+     */
+    String value(int separatorIndex, String separator) {
+        return substring(separatorIndex + separator.length(), tokenEnd);
+    }
+
+    private int indexOf(String target, int from, int to) {
+        if (target.isEmpty()) {
+            return -1;
+        }
+        for (int i = from; i < to; i++) {
+            if (isEscape(i)) {
+                i++;
+            } else if (i + target.length() <= to && matches(target, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(String target, int at) {
+        if (at + target.length() > content.length()) {
+            return false;
+        }
+        for (int i = 0; i < target.length(); i++) {
+            if (content.charAt(at + i) != target.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String substring(int start, int end) {
+        start = trimStart(start, end);
+        end = trimEnd(start, end);
+        int escape = indexOfEscape(start, end);
+        if (escape < 0) {
+            return content.subSequence(start, end).toString();
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        builder.append(content, start, escape);
+        for (int i = escape; i < end; i++) {
+            char c = content.charAt(i);
+            if (isEscape(i) && i + 1 < end) {
+                c = content.charAt(++i);
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private int trimStart(int start, int end) {
+        if (trim) {
+            while (start < end && Character.isWhitespace(content.charAt(start))) {
+                start++;
+            }
+        }
+        return start;
+    }
+
+    private int trimEnd(int start, int end) {
+        if (trim) {
+            while (end > start && Character.isWhitespace(content.charAt(end - 1)) && !isEscaped(end - 1, start)) {
+                end--;
+            }
+        }
+        return end;
+    }
+
+    private int indexOfEscape(int start, int end) {
+        for (int i = start; escape && i < end; i++) {
+            if (content.charAt(i) == ESCAPE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isEscape(int index) {
+        return escape && content.charAt(index) == ESCAPE;
+    }
+
+    private boolean isEscaped(int index, int start) {
+        if (!escape) {
+            return false;
+        }
+        int escapes = 0;
+        for (int i = index - 1; i >= start && content.charAt(i) == ESCAPE; i--) {
+            escapes++;
+        }
+        return escapes % 2 == 1;
+    }
+}
@@ -0,0 +1,202 @@
+package com.springmock.annotations.resolvers;
+
+import com.springmock.annotations.resolvers.converters.Converters;
+import com.springmock.exceptions.IllegalTypeException;
+import com.springmock.exceptions.UnmappableStringException;
+
+import java.util.Arrays;
+
+/**
+ * <p>The {@code PrimitiveArrayParser} class parses the elements of a multi-value straight into an array of a
+ * primitive type, so that no element is boxed or stored reflectively. Integral elements are parsed in place from the
+ * content, without copying them into strings.</p>
+ * <p>The content is read only once: the array grows while the elements are parsed and is trimmed to their number at
+ * the end.</p>
+ */
+final class PrimitiveArrayParser {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private PrimitiveArrayParser() {
+    }
+
+    /**
+     * Parses the elements of the tokenizer into a new array of the specified primitive component type.
+     *
+     * @param elements      the tokenizer of the elements to be parsed
+     * @param componentType the primitive component type of the resulting array
+     * @return the resulting array, for example an {@code int[]}
+     * @throws UnmappableStringException if any element cannot be parsed
+     * @throws IllegalTypeException      if the component type is not primitive
+     */
+    static Object parse(MultiValueTokenizer elements, Class<?> componentType) {
+        if (componentType == int.class) {
+            return parseInts(elements);
+        } else if (componentType == long.class) {
+            return parseLongs(elements);
+        } else if (componentType == double.class) {
+            return parseDoubles(elements);
+        } else if (componentType == float.class) {
+            return parseFloats(elements);
+        } else if (componentType == short.class) {
+            return parseShorts(elements);
+        } else if (componentType == byte.class) {
+            return parseBytes(elements);
+        } else if (componentType == char.class) {
+            return parseChars(elements);
+        } else if (componentType == boolean.class) {
+            return parseBooleans(elements);
+        }
+        throw new IllegalTypeException("Not a primitive type: " + componentType);
+    }
+
+    private static int[] parseInts(MultiValueTokenizer elements) {
+        int[] array = new int[INITIAL_CAPACITY];
+        int i = 0;
+        for (; elements.next(); i++) {
+            if (i == array.length) {
+                array = Arrays.copyOf(array, i * 2);
+            }
+            try {
+                array[i] = elements.intToken();
+            } catch (NumberFormatException e) {
+                throw unmappable(elements.token(), i, int.class, e);
+            }
+        }
+        return i == array.length ? array : Arrays.copyOf(array, i);
+    }
+
+    private static long[] parseLongs(MultiValueTokenizer elements) {
+        long[] array = new long[INITIAL_CAPACITY];
+        int i = 0;
+        for (; elements.next(); i++) {
+            if (i == array.length) {
+                array = Arrays.copyOf(array, i * 2);
+            }
+            try {
+                array[i] = elements.longToken();
+            } catch (NumberFormatException e) {
+                throw unmappable(elements.token(), i, long.class, e);
+            }
+        }
+        return i == array.length ? array : Arrays.copyOf(array, i);
+    }
+
+    private static double[] parseDoubles(MultiValueTokenizer elements) {
+        double[] array = new double[INITIAL_CAPACITY];
+        int i = 0;
+        for (; elements.next(); i++) {
+            if (i == array.length) {
+                array = Arrays.copyOf(array, i * 2);
+            }
+            String element = elements.token();
+            try {
+                array[i] = Double.parseDouble(element);
+            } catch (NumberFormatException e) {
+                throw unmappable(element, i, double.class, e);
+            }
+        }
+        return i == array.length ? array : Arrays.copyOf(array, i);
+    }
+
+    private static float[] parseFloats(MultiValueTokenizer elements) {
+        float[] array = new float[INITIAL_CAPACITY];
+        int i = 0;
+        for (; elements.next(); i++) {
+            if (i == array.length) {
+                array = Arrays.copyOf(array, i * 2);
+            }
+            String element = elements.token();
+            try {
+                array[i] = Float.parseFloat(element);
+            } catch (NumberFormatException e) {
+                throw unmappable(element, i, float.class, e);
+            }
+        }
+        return i == array.length ? array : Arrays.copyOf(array, i);
+    }
+
+    private static short[] parseShorts(MultiValueTokenizer elements) {
+        short[] array = new short[INITIAL_CAPACITY];
+        int i = 0;
+        for (; elements.next(); i++) {
+            if (i == array.length) {
+                array = Arrays.copyOf(array, i * 2);
+            }
+            int element;
+            try {
+                element = elements.intToken();
+            } catch (NumberFormatException e) {
+                throw unmappable(elements.token(), i, short.class, e);
+            }
+            if (element < Short.MIN_VALUE || element > Short.MAX_VALUE) {
+                throw unmappable(elements.token(), i, short.class);
+            }
+            array[i] = (short) element;
+        }
+        return i == array.length ? array : Arrays.copyOf(array, i);
+    }
+
+    private static byte[] parseBytes(MultiValueTokenizer elements) {
+        byte[] array = new byte[INITIAL_CAPACITY];
+        int i = 0;
+        for (; elements.next(); i++) {
+            if (i == array.length) {
+                array = Arrays.copyOf(array, i * 2);
+            }
+            int element;
+            try {
+                element = elements.intToken();
+            } catch (NumberFormatException e) {
+                throw unmappable(elements.token(), i, byte.class, e);
+            }
+            if (element < Byte.MIN_VALUE || element > Byte.MAX_VALUE) {
+                throw unmappable(elements.token(), i, byte.class);
+            }
+            array[i] = (byte) element;
+        }
+        return i == array.length ? array : Arrays.copyOf(array, i);
+    }
+
+    private static char[] parseChars(MultiValueTokenizer elements) {
+        char[] array = new char[INITIAL_CAPACITY];
+        int i = 0;
+        for (; elements.next(); i++) {
+            if (i == array.length) {
+                array = Arrays.copyOf(array, i * 2);
+            }
+            String element = elements.token();
+            if (element.length() != 1) {
+                throw unmappable(element, i, char.class);
+            }
+            array[i] = element.charAt(0);
+        }
+        return i == array.length ? array : Arrays.copyOf(array, i);
+    }
+
+    private static boolean[] parseBooleans(MultiValueTokenizer elements) {
+        boolean[] array = new boolean[INITIAL_CAPACITY];
+        int i = 0;
+        for (; elements.next(); i++) {
+            if (i == array.length) {
+                array = Arrays.copyOf(array, i * 2);
+            }
+            String element = elements.token();
+            try {
+                array[i] = Converters.parseBoolean(element);
+            } catch (IllegalArgumentException e) {
+                throw unmappable(element, i, boolean.class, e);
+            }
+        }
+        return i == array.length ? array : Arrays.copyOf(array, i);
+    }
+
+    private static UnmappableStringException unmappable(String element, int index, Class<?> type) {
+        return unmappable(element, index, type, null);
+    }
+
+    private static UnmappableStringException unmappable(String element, int index, Class<?> type, Throwable cause) {
+        return new UnmappableStringException(
+                String.format("Cannot convert element %d '%s' to %s", index, element, type), cause);
+    }
+}
@@ -1,13 +1,14 @@
 package com.springmock.annotations.resolvers;
 
-import com.springmock.EnvironmentVariables;
+import com.springmock.annotations.resolvers.converters.Converters;
+import com.springmock.exceptions.IllegalTypeException;
 import com.springmock.exceptions.NoSuchEnvironmentVariable;
+import com.springmock.exceptions.UnmappableStringException;
+import com.springmock.properties.PropertySnapshot;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
@@ -54,7 +55,7 @@ public class ValueParser {
         Class<?> fieldType = field.getType();
         if (fieldType.isArray()) {
             Class<?> arrayType = fieldType.getComponentType();
-            return FIELD_PARAMETER_TYPES.contains(arrayType) || arrayType.isPrimitive();
+            return isTypeOfWrapperSupported(arrayType);
         } else {
             boolean areAllTypesAllowed = true;
             ParameterizedType genericType = (ParameterizedType) field.getGenericType();
@@ -65,8 +66,15 @@ public class ValueParser {
         }
     }
 
+    /**
+     * Checks if values of the given class can be converted. Besides the {@code FIELD_PARAMETER_TYPES} and primitives
+     * this includes every type supported by a {@link com.springmock.annotations.resolvers.converters.ConverterProvider}.
+     *
+     * @param clazz The class to be checked
+     * @return true if there is a converter for the class, false otherwise.
+     */
     public static boolean isTypeOfWrapperSupported(Class<?> clazz) {
-        return FIELD_PARAMETER_TYPES.contains(clazz) || clazz.isPrimitive();
+        return Converters.supports(clazz);
     }
 
 
@@ -84,25 +92,19 @@ public class ValueParser {
     }
 
     /**
-     * Gets the value of a specified environment variable.
+     * Gets the value of a specified environment variable from the {@link PropertySnapshot#standard() standard}
+     * properties.
      *
      * @param value the name of the environment variable
      * @return the value of the environment variable
      * @throws NoSuchEnvironmentVariable if the environment variable does not exist
      */
     public static String getContent(String value) {
-        String content;
-        content = System.getenv(value);
-        if (content != null) {
-            return content;
-        } else {
-            try {
-                Field fieldEnvironmentVariable = EnvironmentVariables.class.getField(value);
-                return (String) fieldEnvironmentVariable.get(null);
-            } catch (NoSuchFieldException | IllegalArgumentException | IllegalAccessException e) {
-                throw new NoSuchEnvironmentVariable("Cannot find variable: " + value);
-            }
+        CharSequence content = PropertySnapshot.standard().get(value);
+        if (content == null) {
+            throw new NoSuchEnvironmentVariable("Cannot find variable: " + value);
         }
+        return content.toString();
     }
 
     /**
@@ -135,28 +137,16 @@ public class ValueParser {
     }
 
     /**
-     * Converts a string into an object of a specified type.
+     * Converts a string into an object of a specified type using the {@link Converters} registry.
      *
      * @param content      the string to be converted
      * @param wrapperClass the type of the resulting object
      * @return the resulting object
-     * @throws RuntimeException if the conversion fails
+     * @throws IllegalTypeException     if there is no converter for the type
+     * @throws UnmappableStringException if the conversion fails
      */
     public static <T> T convert(String content, Class<T> wrapperClass) {
-        try {
-            String typeName = wrapperClass.getSimpleName();
-            if (typeName.equals("Integer")) { //lovely convention
-                typeName = "Int";
-            } else if (typeName.equals("String")) { //nothing to parse if target type is String, content is already string
-                return wrapperClass.cast(content);
-            }
-            Method method = wrapperClass.getMethod("parse" + typeName, String.class);
-            method.invoke(null, content);
-            return wrapperClass.cast(method.invoke(null, content));
-        } catch (NoSuchMethodException | IllegalAccessException
-                 | InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
+        return Converters.convert(content, Converters.get(wrapperClass), wrapperClass);
     }
 
 }
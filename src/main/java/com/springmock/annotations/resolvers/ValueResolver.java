@@ -1,29 +1,49 @@
 package com.springmock.annotations.resolvers;
 
 import com.springmock.annotations.Value;
-import static com.springmock.annotations.resolvers.ValueParser.convert;
-import static com.springmock.annotations.resolvers.ValueParser.getContent;
+import com.springmock.annotations.resolvers.converters.Converters;
 import static com.springmock.annotations.resolvers.ValueParser.isTypeOfWrapperSupported;
-import static com.springmock.annotations.resolvers.ValueParser.primitiveToWrapper;
 import com.springmock.exceptions.IllegalTypeException;
+import com.springmock.exceptions.NoSuchEnvironmentVariable;
+import com.springmock.properties.PropertySnapshot;
 
 import java.lang.reflect.Field;
 
+/**
+ * The {@code ValueResolver} class is used to resolve fields annotated with {@link Value}.
+ */
 public class ValueResolver {
+    /**
+     * Resolves the value of the specified {@code field} from the {@link PropertySnapshot#standard() standard}
+     * properties. The standard sources are loaded again on every call, so that later changes of the system properties
+     * are seen; callers resolving many fields should load a snapshot once and use
+     * {@link #resolve(Field, PropertySnapshot)}.
+     *
+     * @param field the field to resolve the value for
+     * @return the resolved value
+     */
     public static Object resolve(Field field) {
+        return resolve(field, PropertySnapshot.standard());
+    }
+
+    /**
+     * Resolves the value of the specified {@code field} from the specified properties.
+     *
+     * @param field      the field to resolve the value for
+     * @param properties the properties
+     * @return the resolved value
+     * @throws NoSuchEnvironmentVariable if the property of the field is not defined
+     */
+    public static Object resolve(Field field, PropertySnapshot properties) {
         Class<?> fieldType = field.getType();
-        System.out.println(fieldType);
-        if (fieldType.isPrimitive()) {
-            fieldType = primitiveToWrapper(fieldType);
-        }
-        if (!isTypeOfWrapperSupported(field.getType())) {
+        if (!isTypeOfWrapperSupported(fieldType)) {
             throw new IllegalTypeException("Illegal type of field: " + fieldType);
         }
         Value fieldAnnotation = field.getAnnotation(Value.class);
-        String content = getContent(fieldAnnotation.value());
-
-        return convert(content, fieldType);
+        CharSequence content = properties.get(fieldAnnotation.value());
+        if (content == null) {
+            throw new NoSuchEnvironmentVariable("Cannot find variable: " + fieldAnnotation.value());
+        }
+        return Converters.convert(content.toString(), Converters.get(fieldType), fieldType);
     }
-
-
 }
@@ -0,0 +1,18 @@
+package com.springmock.annotations.resolvers.converters;
+
+/**
+ * Converts the content of an environment variable, or of a single element of a multi-value, into an object of a
+ * specified type.
+ *
+ * @param <T> the type of the resulting object
+ */
+@FunctionalInterface
+public interface Converter<T> {
+    /**
+     * Converts the specified string.
+     *
+     * @param content the string to be converted
+     * @return the resulting object
+     */
+    T convert(String content);
+}
@@ -0,0 +1,21 @@
+package com.springmock.annotations.resolvers.converters;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>The {@link ConverterProvider} is the service provider interface used to support additional types in fields
+ * annotated with {@code @Value} and {@code @MultiValue}.</p>
+ * <p>Implementations are discovered once with {@link java.util.ServiceLoader}, so they have to be listed in a
+ * {@code META-INF/services/com.springmock.annotations.resolvers.converters.ConverterProvider} resource.</p>
+ */
+public interface ConverterProvider {
+    /**
+     * Gets the converter for the specified type.
+     *
+     * @param <T>  the type parameter
+     * @param type the type to convert to
+     * @return the converter, or {@code null} if the type is not supported by this provider
+     */
+    @Nullable
+    <T> Converter<T> getConverter(Class<T> type);
+}
@@ -0,0 +1,128 @@
+package com.springmock.annotations.resolvers.converters;
+
+import com.springmock.exceptions.IllegalTypeException;
+import com.springmock.exceptions.UnmappableStringException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+
+/**
+ * <p>The {@link Converters} class is the registry of the {@link Converter converters} used to resolve fields
+ * annotated with {@code @Value} and {@code @MultiValue}.</p>
+ * <p>The registry is built once. Types from {@code ValueParser.FIELD_PARAMETER_TYPES} and their primitives are
+ * converted with direct calls to the static parsers of the wrapper classes, any other type is looked up once in the
+ * {@link ConverterProvider providers} found with {@link java.util.ServiceLoader} and then cached per class.</p>
+ */
+public final class Converters {
+    private static final Converter<Integer> INTEGER = Integer::parseInt;
+    private static final Converter<Long> LONG = Long::parseLong;
+    private static final Converter<Short> SHORT = Short::parseShort;
+    private static final Converter<Byte> BYTE = Byte::parseByte;
+    private static final Converter<Double> DOUBLE = Double::parseDouble;
+    private static final Converter<Float> FLOAT = Float::parseFloat;
+    private static final Converter<Boolean> BOOLEAN = Converters::parseBoolean;
+    private static final Converter<Character> CHARACTER = Converters::parseCharacter;
+    private static final Converter<String> STRING = content -> content;
+
+    private static final Map<Class<?>, Converter<?>> BUILT_IN = Map.ofEntries(
+            Map.entry(Integer.class, INTEGER), Map.entry(int.class, INTEGER),
+            Map.entry(Long.class, LONG), Map.entry(long.class, LONG),
+            Map.entry(Short.class, SHORT), Map.entry(short.class, SHORT),
+            Map.entry(Byte.class, BYTE), Map.entry(byte.class, BYTE),
+            Map.entry(Double.class, DOUBLE), Map.entry(double.class, DOUBLE),
+            Map.entry(Float.class, FLOAT), Map.entry(float.class, FLOAT),
+            Map.entry(Boolean.class, BOOLEAN), Map.entry(boolean.class, BOOLEAN),
+            Map.entry(Character.class, CHARACTER), Map.entry(char.class, CHARACTER),
+            Map.entry(String.class, STRING));
+
+    private static final List<ConverterProvider> PROVIDERS = ServiceLoader
+            .load(ConverterProvider.class, Converters.class.getClassLoader())
+            .stream()
+            .map(ServiceLoader.Provider::get)
+            .collect(Collectors.toUnmodifiableList());
+
+    private static final ClassValue<Converter<?>> CONVERTERS = new ClassValue<>() {
+        @Override
+        protected Converter<?> computeValue(Class<?> type) {
+            Converter<?> converter = BUILT_IN.get(type);
+            for (int i = 0; converter == null && i < PROVIDERS.size(); i++) {
+                converter = PROVIDERS.get(i).getConverter(type);
+            }
+            return converter;
+        }
+    };
+
+    private Converters() {
+    }
+
+    /**
+     * Checks whether there is a converter for the specified type.
+     *
+     * @param type the type
+     * @return true if values of the type can be converted, false otherwise
+     */
+    public static boolean supports(Class<?> type) {
+        return CONVERTERS.get(type) != null;
+    }
+
+    /**
+     * Gets the converter for the specified type. Primitive types share the converters of their wrappers.
+     *
+     * @param <T>  the type parameter
+     * @param type the type to convert to
+     * @return the converter
+     * @throws IllegalTypeException if there is no converter for the type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Converter<T> get(Class<T> type) {
+        Converter<T> converter = (Converter<T>) CONVERTERS.get(type);
+        if (converter == null) {
+            throw new IllegalTypeException("No converter for type: " + type);
+        }
+        return converter;
+    }
+
+    /**
+     * Converts the string with the specified converter.
+     *
+     * @param <T>       the type parameter
+     * @param content   the string to be converted
+     * @param converter the converter
+     * @param type      the type of the resulting object, used in the error message
+     * @return the resulting object
+     * @throws UnmappableStringException if the string cannot be converted
+     */
+    public static <T> T convert(String content, Converter<T> converter, Class<?> type) {
+        try {
+            return converter.convert(content);
+        } catch (RuntimeException e) {
+            throw new UnmappableStringException(
+                    String.format("Cannot convert '%s' to %s: %s", content, type.getSimpleName(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Parses a boolean strictly, unlike {@link Boolean#parseBoolean(String)}, which maps any other text to false.
+     *
+     * @param content the string to be parsed
+     * @return the boolean, {@code true} or {@code false} ignoring case
+     * @throws IllegalArgumentException if the string is neither {@code true} nor {@code false}
+     */
+    public static boolean parseBoolean(String content) {
+        if ("true".equalsIgnoreCase(content)) {
+            return true;
+        } else if ("false".equalsIgnoreCase(content)) {
+            return false;
+        }
+        throw new IllegalArgumentException("expected true or false");
+    }
+
+    private static Character parseCharacter(String content) {
+        if (content.length() != 1) {
+            throw new IllegalArgumentException("expected a single character");
+        }
+        return content.charAt(0);
+    }
+}
@@ -0,0 +1,28 @@
+package com.springmock.annotations.resolvers.converters;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The {@link StandardConverterProvider} supports {@link Duration}, {@link BigDecimal}, {@link BigInteger},
+ * {@link URI} and enum types. Enum constants are matched by their name.
+ */
+public class StandardConverterProvider implements ConverterProvider {
+    private static final Map<Class<?>, Converter<?>> CONVERTERS = Map.of(
+            Duration.class, (Converter<Duration>) Duration::parse,
+            BigDecimal.class, (Converter<BigDecimal>) BigDecimal::new,
+            BigInteger.class, (Converter<BigInteger>) BigInteger::new,
+            URI.class, (Converter<URI>) URI::create);
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> Converter<T> getConverter(Class<T> type) {
+        if (type.isEnum()) {
+            return content -> (T) Enum.valueOf((Class) type, content);
+        }
+        return (Converter<T>) CONVERTERS.get(type);
+    }
+}
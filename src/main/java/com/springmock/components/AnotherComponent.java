@@ -3,7 +3,7 @@ package com.springmock.components;
 import com.springmock.annotations.Component;
 import com.springmock.annotations.Value;
 
-@Component
+@Component(aliases = "another")
 public class AnotherComponent {
 
 
@@ -0,0 +1,25 @@
+package com.springmock.exceptions;
+
+/**
+ * Indicates that a lifecycle method of a bean failed.
+ */
+public class BeanLifecycleException extends RuntimeException {
+    /**
+     * Constructs a new BeanLifecycleException with the specified message.
+     *
+     * @param message the detail message
+     */
+    public BeanLifecycleException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new BeanLifecycleException with the specified message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause
+     */
+    public BeanLifecycleException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.springmock.exceptions;
+
+/**
+ * The `BeanNameConflictException` is thrown when two beans in the application context are registered under the same
+ * name or alias.
+ */
+public class BeanNameConflictException extends RuntimeException {
+    /**
+     * Constructs a new `BeanNameConflictException` with the specified message.
+     *
+     * @param message the detail message
+     */
+    public BeanNameConflictException(String message) {
+        super(message);
+    }
+}
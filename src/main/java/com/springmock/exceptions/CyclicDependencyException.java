@@ -1,16 +1,40 @@
 package com.springmock.exceptions;
 
+import java.util.List;
+
 /**
  * The `CyclicDependencyException` is thrown when a cycle is detected in the dependencies of the beans in the
  * application context.
  */
 public class CyclicDependencyException extends RuntimeException {
+    private final List<?> cycle;
+
     /**
      * Constructs a new `CyclicDependencyException` with the specified message.
      *
      * @param message the detail message
      */
     public CyclicDependencyException(String message) {
+        this(message, List.of());
+    }
+
+    /**
+     * Constructs a new `CyclicDependencyException` with the specified message and the elements forming the cycle.
+     *
+     * @param message the detail message
+     * @param cycle   the elements forming the cycle, starting and ending with the same element
+     */
+    public CyclicDependencyException(String message, List<?> cycle) {
         super(message);
+        this.cycle = List.copyOf(cycle);
+    }
+
+    /**
+     * Gets the elements forming the cycle, starting and ending with the same element.
+     *
+     * @return the elements of the cycle, or an empty list if unknown
+     */
+    public List<?> getCycle() {
+        return cycle;
     }
 }
@@ -0,0 +1,32 @@
+package com.springmock.exceptions;
+
+import java.util.List;
+
+/**
+ * The `MissingPropertiesException` is thrown when the application context starts and properties injected into
+ * {@code @Value} or {@code @MultiValue} fields are not defined by any property source. All missing properties are
+ * reported at once.
+ */
+public class MissingPropertiesException extends NoSuchEnvironmentVariable {
+    private final List<String> missing;
+
+    /**
+     * Constructs a new `MissingPropertiesException` with the specified message.
+     *
+     * @param message the detail message
+     * @param missing the names of the missing properties
+     */
+    public MissingPropertiesException(String message, List<String> missing) {
+        super(message);
+        this.missing = List.copyOf(missing);
+    }
+
+    /**
+     * Gets the names of the missing properties.
+     *
+     * @return the missing property names
+     */
+    public List<String> getMissing() {
+        return missing;
+    }
+}
@@ -0,0 +1,16 @@
+package com.springmock.exceptions;
+
+/**
+ * The `NoUniqueBeanException` is thrown when a type is requested or injected, but more than one bean in the application
+ * context is assignable to it.
+ */
+public class NoUniqueBeanException extends RuntimeException {
+    /**
+     * Constructs a new `NoUniqueBeanException` with the specified message.
+     *
+     * @param message the detail message
+     */
+    public NoUniqueBeanException(String message) {
+        super(message);
+    }
+}
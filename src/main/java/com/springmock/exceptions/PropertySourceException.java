@@ -0,0 +1,25 @@
+package com.springmock.exceptions;
+
+/**
+ * The `PropertySourceException` is thrown when the properties of a property source cannot be loaded.
+ */
+public class PropertySourceException extends RuntimeException {
+    /**
+     * Constructs a new `PropertySourceException` with the specified message.
+     *
+     * @param message the detail message
+     */
+    public PropertySourceException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new `PropertySourceException` with the specified message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause
+     */
+    public PropertySourceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -12,4 +12,14 @@ public class UnableToCreateBeanException extends RuntimeException {
     public UnableToCreateBeanException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new UnableToCreateBeanException with the specified message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause
+     */
+    public UnableToCreateBeanException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
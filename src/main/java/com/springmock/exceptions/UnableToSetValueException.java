@@ -12,4 +12,14 @@ public class UnableToSetValueException extends RuntimeException {
     public UnableToSetValueException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new UnableToSetValueException with the specified message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause
+     */
+    public UnableToSetValueException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -13,4 +13,14 @@ public class UnmappableStringException extends RuntimeException {
     public UnmappableStringException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new UnmappableStringException with the specified message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause
+     */
+    public UnmappableStringException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
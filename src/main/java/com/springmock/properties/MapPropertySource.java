@@ -0,0 +1,35 @@
+package com.springmock.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The {@link MapPropertySource} class is a {@link PropertySource} that loads its properties from a supplied map.
+ */
+final class MapPropertySource implements PropertySource {
+    static final MapPropertySource ENVIRONMENT = new MapPropertySource("environment", System::getenv);
+    static final MapPropertySource SYSTEM_PROPERTIES = new MapPropertySource("system properties", () -> {
+        Map<String, String> properties = new HashMap<>();
+        System.getProperties().forEach((key, value) -> properties.put(key.toString(), value.toString()));
+        return properties;
+    });
+
+    private final String name;
+    private final Supplier<Map<String, ? extends CharSequence>> properties;
+
+    MapPropertySource(String name, Supplier<Map<String, ? extends CharSequence>> properties) {
+        this.name = name;
+        this.properties = properties;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Map<String, ? extends CharSequence> load() {
+        return properties.get();
+    }
+}
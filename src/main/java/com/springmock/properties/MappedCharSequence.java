@@ -0,0 +1,69 @@
+package com.springmock.properties;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * The {@link MappedCharSequence} class is a {@link CharSequence} view of a range of single-byte characters in a
+ * {@link ByteBuffer}, typically a memory-mapped file. Reading a character reads the byte at its position, so the range
+ * is never copied unless {@link #toString()} is called.
+ */
+final class MappedCharSequence implements CharSequence {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Creates a view of the specified range of the buffer.
+     *
+     * @param buffer the buffer, read with absolute positions only
+     * @param offset the position of the first character
+     * @param length the number of characters
+     */
+    MappedCharSequence(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length "
+                    + length);
+        }
+        return new MappedCharSequence(buffer, offset + start, end - start);
+    }
+
+    /**
+     * Computes the CRC-32 of the characters of the range, as they are now.
+     *
+     * @return the checksum
+     */
+    long checksum() {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return crc.getValue();
+    }
+
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.springmock.properties;
+
+import com.springmock.exceptions.PropertySourceException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>The {@link MappedFilePropertySource} class is a {@link PropertySource} of a file of {@code key=value} lines that
+ * is memory-mapped instead of read.</p>
+ * <p>Every line holds a single property, separated from its value by the first {@code =} or {@code :}. Blank lines and
+ * lines starting with {@code #} or {@code !} are skipped. Unlike a {@code .properties} file, a value cannot continue on
+ * the next line and backslashes are kept, so they still escape the delimiters of a
+ * {@link com.springmock.annotations.MultiValue}.</p>
+ * <p>Keys are decoded into strings. An ASCII value is returned as a view of the mapped bytes, so the multi-value
+ * tokenizer and the converters read it straight from the page cache and only the individual elements are copied onto
+ * the heap. A value containing other UTF-8 characters is decoded into a string.</p>
+ */
+final class MappedFilePropertySource implements PropertySource {
+    private final Path file;
+
+    MappedFilePropertySource(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public String getName() {
+        return file.toString();
+    }
+
+    @Override
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public Map<String, CharSequence> load() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new PropertySourceException("Unable to map " + file + ": the file exceeds 2 GB");
+            }
+            return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException e) {
+            throw new PropertySourceException("Unable to read " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses the lines of the mapped file. The mapping stays valid after the channel is closed, as long as any of the
+     * returned values is reachable.
+     *
+     * @param buffer the mapped file
+     * @return the properties, keyed by name
+     */
+    private static Map<String, CharSequence> parse(MappedByteBuffer buffer) {
+        Map<String, CharSequence> properties = new HashMap<>();
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            int separator = -1;
+            boolean ascii = true;
+            for (byte b; lineEnd < limit && (b = buffer.get(lineEnd)) != '\n'; lineEnd++) {
+                if (separator < 0 && (b == '=' || b == ':')) {
+                    separator = lineEnd;
+                }
+                ascii &= b >= 0;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            int keyStart = skipWhitespace(buffer, lineStart, lineEnd);
+            if (keyStart < lineEnd && buffer.get(keyStart) != '#' && buffer.get(keyStart) != '!') {
+                int keyEnd = separator < 0 ? lineEnd : separator;
+                while (keyEnd > keyStart && isWhitespace(buffer.get(keyEnd - 1))) {
+                    keyEnd--;
+                }
+                int valueStart = separator < 0 ? lineEnd : skipWhitespace(buffer, separator + 1, lineEnd);
+                String key = decode(buffer, keyStart, keyEnd);
+                CharSequence value = ascii
+                        ? new MappedCharSequence(buffer, valueStart, lineEnd - valueStart)
+                        : decode(buffer, valueStart, lineEnd);
+                properties.put(key, value);
+            }
+            lineStart = next;
+        }
+        return properties;
+    }
+
+    private static int skipWhitespace(ByteBuffer buffer, int from, int to) {
+        while (from < to && isWhitespace(buffer.get(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\f';
+    }
+
+    private static String decode(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,47 @@
+package com.springmock.properties;
+
+import com.springmock.exceptions.PropertySourceException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The {@link PropertiesFilePropertySource} class is a {@link PropertySource} of a {@code .properties} file, read as
+ * UTF-8.
+ */
+final class PropertiesFilePropertySource implements PropertySource {
+    private final Path file;
+
+    PropertiesFilePropertySource(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public String getName() {
+        return file.toString();
+    }
+
+    @Override
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public Map<String, String> load() {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new PropertySourceException("Unable to read " + file + ": " + e.getMessage());
+        }
+        Map<String, String> values = new HashMap<>();
+        properties.forEach((key, value) -> values.put(key.toString(), value.toString()));
+        return values;
+    }
+}
@@ -0,0 +1,14 @@
+package com.springmock.properties;
+
+import java.util.Set;
+
+/**
+ * The {@link PropertyChangeEvent} describes a reload of the properties of an
+ * {@link com.springmock.ApplicationContext ApplicationContext} that changed at least one property.
+ *
+ * @param changed  the names of the properties that were added, removed or changed
+ * @param previous the properties before the reload
+ * @param current  the properties after the reload
+ */
+public record PropertyChangeEvent(Set<String> changed, PropertySnapshot previous, PropertySnapshot current) {
+}
@@ -0,0 +1,26 @@
+package com.springmock.properties;
+
+/**
+ * A {@link PropertyChangeListener} is notified when the properties of an
+ * {@link com.springmock.ApplicationContext ApplicationContext} are reloaded.
+ */
+@FunctionalInterface
+public interface PropertyChangeListener {
+
+    /**
+     * Called after the changed properties have been injected into the beans and the new properties have been
+     * published.
+     *
+     * @param event the reload
+     */
+    void propertiesChanged(PropertyChangeEvent event);
+
+    /**
+     * Called when a reload triggered by a changed file failed, for example because a changed value cannot be
+     * converted. The beans keep the values of the previous properties.
+     *
+     * @param e the cause of the failure
+     */
+    default void reloadFailed(RuntimeException e) {
+    }
+}
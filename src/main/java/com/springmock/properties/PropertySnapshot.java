@@ -0,0 +1,154 @@
+package com.springmock.properties;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>The {@link PropertySnapshot} class holds the properties of a chain of {@link PropertySource sources}, loaded
+ * once into an immutable hash map. Resolving a property is a single map lookup.</p>
+ * <p>The sources are given in order of precedence: when several sources define a property, the value of the first of
+ * them is used.</p>
+ * <p>The values of a {@link PropertySource#mappedFile(Path) mapped file} are views of the file, which change whenever
+ * the file is written in place. Their checksums are therefore taken when they are loaded, and snapshots are compared by
+ * these checksums rather than by the values themselves.</p>
+ */
+public final class PropertySnapshot {
+    private final List<PropertySource> sources;
+    private final Map<String, CharSequence> properties;
+    private final Map<String, Long> checksums;
+
+    private PropertySnapshot(List<PropertySource> sources, Map<String, CharSequence> properties,
+                             Map<String, Long> checksums) {
+        this.sources = sources;
+        this.properties = properties;
+        this.checksums = checksums;
+    }
+
+    /**
+     * Loads the properties of the specified sources.
+     *
+     * @param sources the sources, in order of precedence
+     * @return the snapshot
+     * @throws com.springmock.exceptions.PropertySourceException if a source cannot be read
+     */
+    public static PropertySnapshot load(List<PropertySource> sources) {
+        Map<String, CharSequence> properties = new HashMap<>();
+        for (PropertySource source : sources) {
+            for (var entry : source.load().entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    properties.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        Map<String, Long> checksums = new HashMap<>();
+        properties.forEach((name, value) -> {
+            if (value instanceof MappedCharSequence mapped) {
+                checksums.put(name, mapped.checksum());
+            }
+        });
+        return new PropertySnapshot(List.copyOf(sources), Map.copyOf(properties), Map.copyOf(checksums));
+    }
+
+    /**
+     * Loads a snapshot of the {@link PropertySource#standard() standard} sources. Every call loads the sources again,
+     * so the snapshot reflects the environment and the system properties as they are now.
+     *
+     * @return the standard snapshot
+     */
+    public static PropertySnapshot standard() {
+        return load(PropertySource.standard());
+    }
+
+    /**
+     * Gets the value of the specified property.
+     *
+     * @param name the name of the property
+     * @return the value, or {@code null} if no source defines the property
+     */
+    public CharSequence get(String name) {
+        return properties.get(name);
+    }
+
+    /**
+     * Checks whether any source defines the specified property.
+     *
+     * @param name the name of the property
+     * @return true if the property is defined
+     */
+    public boolean contains(String name) {
+        return properties.containsKey(name);
+    }
+
+    /**
+     * Gets the names of all properties.
+     *
+     * @return the property names
+     */
+    public Set<String> names() {
+        return properties.keySet();
+    }
+
+    /**
+     * Gets the names of the specified properties that no source defines.
+     *
+     * @param names the names of the properties
+     * @return the missing names, in the order given
+     */
+    public List<String> missing(Iterable<String> names) {
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            if (!properties.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Gets the names of the properties that differ between this and the specified snapshot: properties defined by only
+     * one of them and properties whose values differ. Values of mapped files are compared by the checksums taken when
+     * they were loaded, so a file written in place is compared with what it held before, and a truncated file is
+     * never read beyond its end.
+     *
+     * @param other the other snapshot
+     * @return the names of the changed properties
+     */
+    public Set<String> changedNames(PropertySnapshot other) {
+        Set<String> changed = new HashSet<>();
+        for (var entry : properties.entrySet()) {
+            CharSequence value = other.properties.get(entry.getKey());
+            if (value == null || !isSame(entry.getKey(), entry.getValue(), other, value)) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String name : other.properties.keySet()) {
+            if (!properties.containsKey(name)) {
+                changed.add(name);
+            }
+        }
+        return changed;
+    }
+
+    private boolean isSame(String name, CharSequence value, PropertySnapshot other, CharSequence otherValue) {
+        Long checksum = checksums.get(name);
+        Long otherChecksum = other.checksums.get(name);
+        if (checksum != null || otherChecksum != null) {
+            return checksum != null && checksum.equals(otherChecksum) && value.length() == otherValue.length();
+        }
+        return CharSequence.compare(value, otherValue) == 0;
+    }
+
+    /**
+     * Gets the sources of the snapshot.
+     *
+     * @return the sources, in order of precedence
+     */
+    public List<PropertySource> getSources() {
+        return sources;
+    }
+}
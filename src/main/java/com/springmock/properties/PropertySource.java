@@ -0,0 +1,128 @@
+package com.springmock.properties;
+
+import com.springmock.EnvironmentVariables;
+import com.springmock.exceptions.PropertySourceException;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A {@link PropertySource} supplies the values injected into fields annotated with
+ * {@link com.springmock.annotations.Value} and {@link com.springmock.annotations.MultiValue}.</p>
+ * <p>Sources are not queried for every field. Instead, all of their properties are loaded once into a
+ * {@link PropertySnapshot}, which is then used for every lookup.</p>
+ */
+public interface PropertySource {
+
+    /**
+     * Gets the standard sources, in order of precedence: the environment, the system properties and the public static
+     * fields of {@link EnvironmentVariables}.
+     *
+     * @return the standard sources
+     */
+    static List<PropertySource> standard() {
+        return List.of(environment(), systemProperties(), staticFields(EnvironmentVariables.class));
+    }
+
+    /**
+     * Gets the source of the environment variables of the process.
+     *
+     * @return the environment source
+     */
+    static PropertySource environment() {
+        return MapPropertySource.ENVIRONMENT;
+    }
+
+    /**
+     * Gets the source of the system properties of the JVM.
+     *
+     * @return the system properties source
+     */
+    static PropertySource systemProperties() {
+        return MapPropertySource.SYSTEM_PROPERTIES;
+    }
+
+    /**
+     * Gets a source of the public static {@code String} fields of the specified class, keyed by field name.
+     *
+     * @param holder the class declaring the fields
+     * @return the static field source
+     */
+    static PropertySource staticFields(Class<?> holder) {
+        return new StaticFieldPropertySource(holder);
+    }
+
+    /**
+     * Gets a source of the specified {@code .properties} file.
+     *
+     * @param file the properties file
+     * @return the properties file source
+     */
+    static PropertySource propertiesFile(Path file) {
+        return new PropertiesFilePropertySource(file);
+    }
+
+    /**
+     * Gets a source of the specified YAML file. Nested keys are joined with dots, and the items of a list are joined
+     * with commas, so they can be read by {@link com.springmock.annotations.MultiValue} fields.
+     *
+     * @param file the YAML file
+     * @return the YAML file source
+     */
+    static PropertySource yamlFile(Path file) {
+        return new YamlFilePropertySource(file);
+    }
+
+    /**
+     * Gets a source of the specified file of {@code key=value} lines, which is memory-mapped rather than read onto the
+     * heap. It is meant for very large {@link com.springmock.annotations.MultiValue} settings: their elements are
+     * tokenized and converted straight from the mapped file, without building the whole value as a {@code String}.
+     * <p>The values refer to the mapped file for as long as they are in use, so the file should be replaced by moving
+     * a new file into place rather than rewritten in place. With hot reload, a file rewritten in place is still
+     * detected, as the snapshots compare the checksums of the values taken when they were loaded. A file truncated
+     * while it is being loaded fails that reload, which is reported to
+     * {@link PropertyChangeListener#reloadFailed(RuntimeException)}.</p>
+     *
+     * @param file the mapped file
+     * @return the mapped file source
+     */
+    static PropertySource mappedFile(Path file) {
+        return new MappedFilePropertySource(file);
+    }
+
+    /**
+     * Gets a source of a fixed map of properties.
+     *
+     * @param name       the name of the source
+     * @param properties the properties
+     * @return the map source
+     */
+    static PropertySource of(String name, Map<String, ? extends CharSequence> properties) {
+        return new MapPropertySource(name, () -> properties);
+    }
+
+    /**
+     * Gets the name of the source, used in error messages.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Gets the file the properties are read from, which is watched for changes when hot reload is enabled.
+     *
+     * @return the file, or {@code null} if the source is not backed by a file
+     */
+    default Path getFile() {
+        return null;
+    }
+
+    /**
+     * Loads all properties of the source.
+     *
+     * @return the properties, keyed by name
+     * @throws PropertySourceException if the source cannot be read
+     */
+    Map<String, ? extends CharSequence> load();
+}
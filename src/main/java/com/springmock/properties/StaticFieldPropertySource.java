@@ -0,0 +1,41 @@
+package com.springmock.properties;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link StaticFieldPropertySource} class is a {@link PropertySource} of the public static {@code String} fields
+ * of a class. Fields that are {@code null} are left out.
+ */
+final class StaticFieldPropertySource implements PropertySource {
+    private final Class<?> holder;
+
+    StaticFieldPropertySource(Class<?> holder) {
+        this.holder = holder;
+    }
+
+    @Override
+    public String getName() {
+        return holder.getName();
+    }
+
+    @Override
+    public Map<String, String> load() {
+        Map<String, String> properties = new HashMap<>();
+        for (Field field : holder.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                try {
+                    String value = (String) field.get(null);
+                    if (value != null) {
+                        properties.put(field.getName(), value);
+                    }
+                } catch (IllegalAccessException ignored) {
+                    // public fields of a public class are always accessible
+                }
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,133 @@
+package com.springmock.properties;
+
+import com.springmock.exceptions.PropertySourceException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>The {@link YamlFilePropertySource} class is a {@link PropertySource} of a YAML file.</p>
+ * <p>Only the subset of YAML used for configuration is supported: nested mappings, which are flattened into keys
+ * joined with dots, scalar values, optionally in single or double quotes, block lists of scalars, which are joined
+ * with commas, and comments. Flow collections, anchors and multi-line scalars are not supported.</p>
+ */
+final class YamlFilePropertySource implements PropertySource {
+    private final Path file;
+
+    YamlFilePropertySource(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public String getName() {
+        return file.toString();
+    }
+
+    @Override
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public Map<String, String> load() {
+        try {
+            return parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new PropertySourceException("Unable to read " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses the lines of a YAML document.
+     *
+     * @param lines the lines
+     * @return the flattened properties
+     * @throws PropertySourceException if a line is not a mapping or list entry
+     */
+    static Map<String, String> parse(List<String> lines) {
+        Map<String, String> properties = new HashMap<>();
+        Deque<int[]> indents = new ArrayDeque<>();
+        Deque<String> keys = new ArrayDeque<>();
+        String listKey = null;
+        List<String> listItems = new ArrayList<>();
+        for (int number = 1; number <= lines.size(); number++) {
+            String line = stripComment(lines.get(number - 1));
+            if (line.isBlank() || line.startsWith("---")) {
+                continue;
+            }
+            int indent = line.length() - line.stripLeading().length();
+            String content = line.strip();
+            if (content.startsWith("- ") || content.equals("-")) {
+                if (listKey == null) {
+                    throw new PropertySourceException("List item without a key at line " + number);
+                }
+                listItems.add(unquote(content.substring(1).strip()));
+                continue;
+            }
+            if (listKey != null) {
+                if (!listItems.isEmpty()) {
+                    properties.put(listKey, String.join(",", listItems));
+                }
+                listKey = null;
+                listItems.clear();
+            }
+            int colon = content.indexOf(':');
+            if (colon <= 0) {
+                throw new PropertySourceException("Expected 'key: value' at line " + number);
+            }
+            while (!indents.isEmpty() && indents.peek()[0] >= indent) {
+                indents.pop();
+                keys.pop();
+            }
+            String key = unquote(content.substring(0, colon).strip());
+            String fullKey = keys.isEmpty() ? key : keys.peek() + '.' + key;
+            String value = content.substring(colon + 1).strip();
+            if (value.isEmpty()) {
+                indents.push(new int[]{indent});
+                keys.push(fullKey);
+                listKey = fullKey;
+            } else {
+                properties.put(fullKey, unquote(value));
+            }
+        }
+        if (listKey != null && !listItems.isEmpty()) {
+            properties.put(listKey, String.join(",", listItems));
+        }
+        return properties;
+    }
+
+    private static String stripComment(String line) {
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '#' && (i == 0 || Character.isWhitespace(line.charAt(i - 1)))) {
+                return line.substring(0, i);
+            }
+        }
+        return line;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2) {
+            char first = value.charAt(0);
+            if ((first == '"' || first == '\'') && value.charAt(value.length() - 1) == first) {
+                return value.substring(1, value.length() - 1);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,96 @@
+package com.springmock.startup;
+
+import java.util.Comparator;
+import java.util.List;
+
+
+/**
+ * <p>The {@link ShutdownReport} class holds the timings recorded while an
+ * {@link com.springmock.ApplicationContext ApplicationContext} was closed.</p>
+ * <p>The report lists every bean whose {@link com.springmock.annotations.PreDestroy} methods were called, in the order
+ * they finished, with the time its methods took and how they ended. All timings are in nanoseconds.</p>
+ */
+public final class ShutdownReport {
+    private final long totalNanos;
+    private final List<BeanShutdown> beans;
+
+    /**
+     * Creates a new report.
+     *
+     * @param totalNanos the duration of the whole shutdown
+     * @param beans      the shutdowns of the beans
+     */
+    public ShutdownReport(long totalNanos, List<BeanShutdown> beans) {
+        this.totalNanos = totalNanos;
+        this.beans = List.copyOf(beans);
+    }
+
+    /**
+     * Gets the duration of the whole shutdown.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the shutdowns of the beans with {@link com.springmock.annotations.PreDestroy} methods.
+     *
+     * @return the bean shutdowns
+     */
+    public List<BeanShutdown> getBeans() {
+        return beans;
+    }
+
+    /**
+     * Gets the shutdowns of the beans that failed or did not finish in time.
+     *
+     * @return the unsuccessful bean shutdowns
+     */
+    public List<BeanShutdown> getFailures() {
+        return beans.stream().filter(bean -> bean.outcome() != Outcome.DESTROYED).toList();
+    }
+
+    /**
+     * Gets the specified number of beans that took the longest to shut down.
+     *
+     * @param limit the maximum number of beans
+     * @return the bean shutdowns, slowest first
+     */
+    public List<BeanShutdown> getSlowestBeans(int limit) {
+        return beans.stream()
+                .sorted(Comparator.comparingLong(BeanShutdown::nanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * How the shutdown of a bean ended.
+     */
+    public enum Outcome {
+        /**
+         * All methods completed normally.
+         */
+        DESTROYED,
+        /**
+         * A method threw an exception or returned a stage that completed exceptionally.
+         */
+        FAILED,
+        /**
+         * The methods did not complete within the shutdown timeout, and the context stopped waiting for them.
+         */
+        TIMED_OUT
+    }
+
+    /**
+     * The shutdown of a bean.
+     *
+     * @param type    the class of the bean
+     * @param nanos   the time spent in the methods of the bean, at most the timeout
+     * @param outcome how the shutdown ended
+     * @param failure the cause of the failure or timeout, or {@code null} if the bean was destroyed
+     */
+    public record BeanShutdown(Class<?> type, long nanos, Outcome outcome, Throwable failure) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.springmock.startup;
+
+import java.util.Comparator;
+import java.util.List;
+
+
+/**
+ * <p>The {@link StartupReport} class holds the timings recorded while an
+ * {@link com.springmock.ApplicationContext ApplicationContext} was started.</p>
+ * <p>The report lists the time spent in every phase of the startup, in the order the phases were first entered, and
+ * the time spent on every bean created during the startup, split into its construction, the injection of its
+ * autowired fields and the resolution of its values. All timings are in nanoseconds.</p>
+ */
+public final class StartupReport {
+    /**
+     * The phase reading the snapshot of the wiring plan and fingerprinting the class path.
+     */
+    public static final String SNAPSHOT = "snapshot";
+    /**
+     * The phase loading the property sources.
+     */
+    public static final String PROPERTIES = "properties";
+    /**
+     * The phase finding the components, in the component index or on the classpath.
+     */
+    public static final String SCAN = "scan";
+    /**
+     * The phase resolving the dependencies of the components.
+     */
+    public static final String DEPENDENCIES = "dependencies";
+    /**
+     * The phase sorting the components topologically.
+     */
+    public static final String SORT = "sort";
+    /**
+     * The phase choosing the constructor of every component.
+     */
+    public static final String CONSTRUCTORS = "constructors";
+    /**
+     * The phase creating the bean definitions.
+     */
+    public static final String DEFINITIONS = "definitions";
+    /**
+     * The phase calling the constructors of the eager beans.
+     */
+    public static final String INSTANTIATION = "instantiation";
+    /**
+     * The phase injecting the fields of the eager beans.
+     */
+    public static final String POPULATION = "population";
+    /**
+     * The phase indexing the names of the beans.
+     */
+    public static final String NAMES = "names";
+    /**
+     * The phase freezing the created beans into the registry read by {@code getBean}.
+     */
+    public static final String REGISTRY = "registry";
+
+    private final long totalNanos;
+    private final List<PhaseTiming> phases;
+    private final List<BeanTiming> beans;
+
+    /**
+     * Creates a new report.
+     *
+     * @param totalNanos the duration of the whole startup
+     * @param phases     the timings of the phases
+     * @param beans      the timings of the beans
+     */
+    public StartupReport(long totalNanos, List<PhaseTiming> phases, List<BeanTiming> beans) {
+        this.totalNanos = totalNanos;
+        this.phases = List.copyOf(phases);
+        this.beans = List.copyOf(beans);
+    }
+
+    /**
+     * Gets the duration of the whole startup.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the timings of the startup phases, in the order they were first entered.
+     *
+     * @return the phase timings
+     */
+    public List<PhaseTiming> getPhases() {
+        return phases;
+    }
+
+    /**
+     * Gets the timing of the specified phase.
+     *
+     * @param name the name of the phase
+     * @return the duration of the phase in nanoseconds, or 0 if the phase was not entered
+     */
+    public long getPhaseNanos(String name) {
+        for (PhaseTiming phase : phases) {
+            if (phase.name().equals(name)) {
+                return phase.nanos();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the timings of the beans created during the startup.
+     *
+     * @return the bean timings
+     */
+    public List<BeanTiming> getBeans() {
+        return beans;
+    }
+
+    /**
+     * Gets the timings of the specified number of beans that took the longest to create.
+     *
+     * @param limit the maximum number of beans
+     * @return the bean timings, slowest first
+     */
+    public List<BeanTiming> getSlowestBeans(int limit) {
+        return beans.stream()
+                .sorted(Comparator.comparingLong(BeanTiming::totalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * The time spent in a startup phase. A phase entered more than once, for example once per level when the beans
+     * are created in parallel, is reported with its accumulated time.
+     *
+     * @param name  the name of the phase
+     * @param nanos the duration in nanoseconds
+     */
+    public record PhaseTiming(String name, long nanos) {
+    }
+
+    /**
+     * The time spent on a bean. The construction time includes the creation of prototype beans injected into the
+     * constructor, and the timings of a prototype bean created more than once are accumulated.
+     *
+     * @param type                 the class of the bean
+     * @param constructionNanos    the time spent in the constructor of the bean
+     * @param autowiringNanos      the time spent injecting the autowired fields
+     * @param valueResolutionNanos the time spent resolving and setting the value fields
+     */
+    public record BeanTiming(Class<?> type, long constructionNanos, long autowiringNanos, long valueResolutionNanos) {
+        /**
+         * Gets the total time spent on the bean.
+         *
+         * @return the duration in nanoseconds
+         */
+        public long totalNanos() {
+            return constructionNanos + autowiringNanos + valueResolutionNanos;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.springmock.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * <p>The {@link ComponentFactoryProcessor} generates a {@code ComponentFactory} for every class annotated with
+ * {@code @Component}, so that the application context can create the component and inject its fields with plain Java
+ * code instead of reflection. It only runs when the {@value #OPTION} processor option is set to {@code true}.</p>
+ * <p>The factory of {@code com.example.Outer$Inner} is generated as {@code com.example.Outer_Inner_ComponentFactory},
+ * in the package of the component, so that it can access package-private members. It calls the public constructors of
+ * the component and assigns its {@code @Autowired}, {@code @Value} and {@code @MultiValue} fields that are neither
+ * private nor final. All factories are listed in the {@value #SERVICES_LOCATION} resource. Components that cannot be
+ * accessed from their package, such as private, abstract and inner classes, are skipped.</p>
+ * <p>Like the other accessors, the generated ones wrap the exception of a failing constructor in an
+ * {@code UnableToCreateBeanException} and the exception of a failed assignment in an
+ * {@code UnableToSetValueException}, keeping it as the cause. Errors are not wrapped.</p>
+ */
+@SupportedAnnotationTypes(ComponentIndexProcessor.COMPONENT)
+@SupportedOptions(ComponentFactoryProcessor.OPTION)
+public class ComponentFactoryProcessor extends AbstractProcessor {
+    /**
+     * The processor option enabling the generation of factories.
+     */
+    public static final String OPTION = "springmock.factories";
+    /**
+     * The location of the service configuration listing the generated factories, relative to the class output.
+     */
+    public static final String SERVICES_LOCATION = "META-INF/services/com.springmock.accessors.ComponentFactory";
+
+    private static final String SUFFIX = "_ComponentFactory";
+    private static final List<String> INJECTED = List.of("com.springmock.annotations.Autowired",
+            "com.springmock.annotations.Value", "com.springmock.annotations.MultiValue");
+
+    private final Set<String> factories = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!Boolean.parseBoolean(processingEnv.getOptions().get(OPTION))) {
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (TypeElement component : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (isAccessible(component)) {
+                    writeFactory(component);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !factories.isEmpty()) {
+            writeServices();
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a factory in the package of the component can create it.
+     *
+     * @param component the component
+     * @return true if the component is a concrete class accessible from its package
+     */
+    private static boolean isAccessible(TypeElement component) {
+        if (component.getKind() != ElementKind.CLASS || component.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        Element element = component;
+        for (; element instanceof TypeElement type; element = element.getEnclosingElement()) {
+            if (type.getModifiers().contains(Modifier.PRIVATE) || type.getNestingKind() == NestingKind.MEMBER
+                    && !type.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeFactory(TypeElement component) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(component).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(component).toString();
+        String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                .replace('$', '_') + SUFFIX;
+        String factoryName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        if (!factories.add(factoryName)) {
+            return;
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(factoryName, component);
+            try (Writer writer = file.openWriter()) {
+                writer.write(generate(component, packageName, simpleName));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write component factory: " + e.getMessage(), component);
+        }
+    }
+
+    /**
+     * Generates the source of the factory of the component.
+     *
+     * @param component   the component
+     * @param packageName the package of the component and of the factory
+     * @param simpleName  the simple name of the factory
+     * @return the source code
+     */
+    private String generate(TypeElement component, String packageName, String simpleName) {
+        String type = component.getQualifiedName().toString();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements com.springmock.accessors.ComponentFactory {\n\n")
+                .append("    @Override\n")
+                .append("    public com.springmock.accessors.Instantiator instantiator(Class<?>[] parameterTypes) {\n");
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(component.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                appendConstructor(source, type, constructor.getParameters());
+            }
+        }
+        source.append("        return null;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public com.springmock.accessors.FieldInjector injector(String field) {\n")
+                .append("        switch (field) {\n");
+        for (VariableElement field : ElementFilter.fieldsIn(component.getEnclosedElements())) {
+            if (isInjected(field) && !field.getModifiers().contains(Modifier.PRIVATE)
+                    && !field.getModifiers().contains(Modifier.FINAL)) {
+                appendInjector(source, type, field);
+            }
+        }
+        source.append("            default:\n")
+                .append("                return null;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private void appendConstructor(StringBuilder source, String type, List<? extends VariableElement> parameters) {
+        List<String> types = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < parameters.size(); i++) {
+            String parameterType = erasure(parameters.get(i).asType());
+            types.add(parameterType + ".class");
+            arguments.add("(" + parameterType + ") args[" + i + "]");
+        }
+        source.append("        if (java.util.Arrays.equals(parameterTypes, new Class<?>[]{")
+                .append(String.join(", ", types)).append("})) {\n")
+                .append("            return args -> {\n")
+                .append("                try {\n")
+                .append("                    return new ").append(type).append('(')
+                .append(String.join(", ", arguments)).append(");\n")
+                .append("                } catch (Exception e) {\n")
+                .append("                    throw new com.springmock.exceptions.UnableToCreateBeanException(")
+                .append("\"Unable to create ").append(type).append(": \" + e, e);\n")
+                .append("                }\n")
+                .append("            };\n")
+                .append("        }\n");
+    }
+
+    /**
+     * Appends the injector of the field. A failed assignment, such as a value of the wrong type, is wrapped in an
+     * {@code UnableToSetValueException} like the reflective and method handle accessors do.
+     *
+     * @param source the source of the factory
+     * @param type   the canonical name of the component
+     * @param field  the injected field
+     */
+    private void appendInjector(StringBuilder source, String type, VariableElement field) {
+        String target = field.getModifiers().contains(Modifier.STATIC) ? type : "((" + type + ") bean)";
+        source.append("            case \"").append(field.getSimpleName()).append("\":\n")
+                .append("                return (bean, value) -> {\n")
+                .append("                    try {\n")
+                .append("                        ").append(target).append('.').append(field.getSimpleName())
+                .append(" = (").append(erasure(field.asType())).append(") value;\n")
+                .append("                    } catch (RuntimeException e) {\n")
+                .append("                        throw new com.springmock.exceptions.UnableToSetValueException(")
+                .append("\"Unable to set ").append(type).append('.').append(field.getSimpleName())
+                .append(": \" + e, e);\n")
+                .append("                    }\n")
+                .append("                };\n");
+    }
+
+    /**
+     * Gets the source name of the erasure of the type, without any type annotations.
+     *
+     * @param type the type
+     * @return the canonical name of the erased type
+     */
+    private String erasure(TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure instanceof ArrayType array) {
+            return erasure(array.getComponentType()) + "[]";
+        }
+        if (erasure instanceof DeclaredType declared) {
+            return ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        }
+        return erasure.getKind().name().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isInjected(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (INJECTED.contains(type.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeServices() {
+        try {
+            FileObject services = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES_LOCATION);
+            try (Writer writer = new OutputStreamWriter(services.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String factory : factories) {
+                    writer.write(factory);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Unable to write component factories: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.springmock.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * <p>The {@link ComponentIndexProcessor} writes an index of every class annotated with {@code @Component} into the
+ * {@value #INDEX_LOCATION} resource, so that the application context does not have to scan the classpath at
+ * startup.</p>
+ * <p>Every line of the index describes one component and consists of three tab separated columns: the binary name of
+ * the component, the comma separated types of its {@code @Autowired} fields and the comma separated parameter types of
+ * its public constructors.</p>
+ */
+@SupportedAnnotationTypes(ComponentIndexProcessor.COMPONENT)
+public class ComponentIndexProcessor extends AbstractProcessor {
+    /**
+     * The location of the generated index, relative to the class output.
+     */
+    public static final String INDEX_LOCATION = "META-INF/springmock/components.index";
+
+    static final String COMPONENT = "com.springmock.annotations.Component";
+    private static final String AUTOWIRED = "com.springmock.annotations.Autowired";
+
+    private final Map<String, String> entries = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (TypeElement component : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                String name = binaryName(component);
+                entries.put(name, name + '\t' + autowiredTypes(component) + '\t' + constructorTypes(component));
+            }
+        }
+        if (roundEnv.processingOver() && !entries.isEmpty()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    /**
+     * Collects the types of the fields of the component annotated with {@code @Autowired}.
+     *
+     * @param component the component
+     * @return the comma separated binary names of the types
+     */
+    private String autowiredTypes(TypeElement component) {
+        Set<String> types = new LinkedHashSet<>();
+        for (VariableElement field : ElementFilter.fieldsIn(component.getEnclosedElements())) {
+            if (isAnnotatedWith(field, AUTOWIRED)) {
+                addType(types, field.asType());
+            }
+        }
+        return String.join(",", types);
+    }
+
+    /**
+     * Collects the parameter types of the public constructors of the component that take any parameters.
+     *
+     * @param component the component
+     * @return the comma separated binary names of the types
+     */
+    private String constructorTypes(TypeElement component) {
+        Set<String> types = new LinkedHashSet<>();
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(component.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                for (VariableElement parameter : constructor.getParameters()) {
+                    addType(types, parameter.asType());
+                }
+            }
+        }
+        return String.join(",", types);
+    }
+
+    private void addType(Set<String> types, TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            types.add(binaryName((TypeElement) ((DeclaredType) erasure).asElement()));
+        }
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private static boolean isAnnotatedWith(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String entry : entries.values()) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Unable to write component index: " + e.getMessage());
+        }
+    }
+}
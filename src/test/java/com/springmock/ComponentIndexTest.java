@@ -0,0 +1,97 @@
+package com.springmock;
+
+import com.springmock.annotations.Component;
+import com.springmock.tests.types.EmailNotifier;
+import com.springmock.tests.types.MemoryRepository;
+import com.springmock.tests.types.Registry;
+import com.springmock.tests.types.SmsNotifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.Reflections;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Set;
+
+class ComponentIndexTest {
+    private static final String PACKAGE = "com.springmock.tests.types";
+    private static final ClassLoader CLASS_LOADER = ComponentIndexTest.class.getClassLoader();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void indexListsTheComponentsOfThePackage() {
+        ComponentIndex index = ComponentIndex.load(CLASS_LOADER).orElseThrow();
+        Set<Class<?>> components = index.getComponents(PACKAGE, CLASS_LOADER).orElseThrow();
+        Assertions.assertEquals(Set.of(MemoryRepository.class, EmailNotifier.class, SmsNotifier.class,
+                Registry.class), components);
+
+        Map<Class<?>, Set<Class<?>>> graph = index.getDependencyGraph(components, TypeIndex.of(components));
+        Assertions.assertEquals(Set.of(MemoryRepository.class), graph.get(Registry.class));
+        Assertions.assertEquals(Set.of(), graph.get(MemoryRepository.class));
+    }
+
+    @Test
+    void scanFindsTheIndexedComponents() {
+        Set<Class<?>> indexed = ComponentIndex.load(CLASS_LOADER).orElseThrow()
+                .getComponents(PACKAGE, CLASS_LOADER).orElseThrow();
+        Assertions.assertEquals(indexed, new Reflections(PACKAGE).getTypesAnnotatedWith(Component.class));
+    }
+
+    @Test
+    void missingIndexFallsBackToScanning() {
+        Assertions.assertTrue(ComponentIndex.load(withIndex(null)).isEmpty());
+    }
+
+    @Test
+    void packageMissingFromTheIndexFallsBackToScanning() {
+        ComponentIndex index = ComponentIndex.load(CLASS_LOADER).orElseThrow();
+        Assertions.assertTrue(index.getComponents("com.springmock.tests.unindexed", CLASS_LOADER).isEmpty());
+    }
+
+    @Test
+    void staleIndexFallsBackToScanning() throws IOException {
+        Path missing = directory.resolve("missing.index");
+        Files.writeString(missing, "com.springmock.tests.types.Registry\t\t\n"
+                + "com.springmock.tests.types.Removed\t\t\n");
+        ClassLoader missingClass = withIndex(missing);
+        Assertions.assertTrue(ComponentIndex.load(missingClass).orElseThrow()
+                .getComponents(PACKAGE, missingClass).isEmpty());
+
+        Path notComponent = directory.resolve("not-component.index");
+        Files.writeString(notComponent, "com.springmock.tests.types.Registry\t\t\n"
+                + "com.springmock.tests.types.Notifier\t\t\n");
+        ClassLoader notAComponent = withIndex(notComponent);
+        Assertions.assertTrue(ComponentIndex.load(notAComponent).orElseThrow()
+                .getComponents(PACKAGE, notAComponent).isEmpty());
+    }
+
+    @Test
+    void indexMissingAComponentFallsBackToScanning() throws IOException {
+        Path incomplete = directory.resolve("incomplete.index");
+        Files.writeString(incomplete, "com.springmock.tests.types.Registry\tcom.springmock.tests.types.Repository\t\n");
+        ClassLoader classLoader = withIndex(incomplete);
+        Assertions.assertTrue(ComponentIndex.load(classLoader).orElseThrow()
+                .getComponents(PACKAGE, classLoader).isEmpty());
+    }
+
+    private static ClassLoader withIndex(Path index) {
+        return new ClassLoader(CLASS_LOADER) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (!name.equals(ComponentIndex.INDEX_LOCATION)) {
+                    return super.getResources(name);
+                }
+                return index == null ? Collections.emptyEnumeration()
+                        : Collections.enumeration(Set.of(index.toUri().toURL()));
+            }
+        };
+    }
+}
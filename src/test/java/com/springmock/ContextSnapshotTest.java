@@ -0,0 +1,81 @@
+package com.springmock;
+
+import com.springmock.tests.types.AbstractRepository;
+import com.springmock.tests.types.MemoryRepository;
+import com.springmock.tests.types.Registry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+class ContextSnapshotTest {
+    private static final String PACKAGE = "com.springmock.tests.types";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void snapshotIsWrittenAndReused() {
+        Path file = directory.resolve("context.snapshot");
+        ApplicationContext first = new ApplicationContext(new ContextConfiguration(PACKAGE).snapshot(file));
+        Assertions.assertTrue(Files.isRegularFile(file));
+
+        ContextSnapshot snapshot = ContextSnapshot.read(file, PACKAGE, ContextSnapshot.fingerprint(file, PACKAGE),
+                ApplicationContext.class.getClassLoader()).orElseThrow();
+        List<Class<?>> components = snapshot.getComponents();
+        Assertions.assertTrue(components.indexOf(MemoryRepository.class) < components.indexOf(Registry.class));
+        Assertions.assertEquals(Set.of(MemoryRepository.class), snapshot.getGraph().get(Registry.class));
+        Assertions.assertArrayEquals(new Class<?>[]{AbstractRepository.class},
+                snapshot.getConstructor(Registry.class).getParameterTypes());
+
+        ApplicationContext second = new ApplicationContext(new ContextConfiguration(PACKAGE).snapshot(file));
+        Assertions.assertEquals(first.getBeans().keySet(), second.getBeans().keySet());
+        Registry registry = second.getBean(Registry.class);
+        Assertions.assertSame(second.getBean(MemoryRepository.class), registry.constructorRepository);
+        Assertions.assertSame(second.getBean(MemoryRepository.class), registry.repository);
+    }
+
+    @Test
+    void staleSnapshotIsIgnored() {
+        Path file = directory.resolve("context.snapshot");
+        new ApplicationContext(new ContextConfiguration(PACKAGE).snapshot(file));
+        long fingerprint = ContextSnapshot.fingerprint(file, PACKAGE);
+        ClassLoader classLoader = ApplicationContext.class.getClassLoader();
+
+        Assertions.assertTrue(ContextSnapshot.read(file, PACKAGE, fingerprint + 1, classLoader).isEmpty());
+        Assertions.assertTrue(ContextSnapshot.read(file, "com.springmock.tests", fingerprint, classLoader).isEmpty());
+    }
+
+    @Test
+    void corruptedSnapshotIsRebuilt() throws IOException {
+        Path file = directory.resolve("context.snapshot");
+        Files.write(file, new byte[]{1, 2, 3});
+        ApplicationContext ctx = new ApplicationContext(new ContextConfiguration(PACKAGE).snapshot(file));
+        Assertions.assertNotNull(ctx.getBean(Registry.class));
+        Assertions.assertTrue(ContextSnapshot.read(file, PACKAGE, ContextSnapshot.fingerprint(file, PACKAGE),
+                ApplicationContext.class.getClassLoader()).isPresent());
+    }
+
+    @Test
+    void fingerprintCoversOnlyTheScannedPackage() throws IOException {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Path component = Files.createDirectories(classes.resolve("com/example/app")).resolve("Service.class");
+        Path unrelated = Files.createDirectories(classes.resolve("com/example/other")).resolve("Tool.class");
+        Files.write(component, new byte[]{1});
+        Files.write(unrelated, new byte[]{1});
+        Path file = classes.resolve("context.snapshot");
+        long fingerprint = ContextSnapshot.fingerprint(List.of(classes), file, "com.example.app");
+
+        Files.write(unrelated, new byte[]{1, 2});
+        Files.write(file, new byte[]{1, 2, 3});
+        Assertions.assertEquals(fingerprint, ContextSnapshot.fingerprint(List.of(classes), file, "com.example.app"));
+
+        Files.write(component, new byte[]{1, 2});
+        Assertions.assertNotEquals(fingerprint, ContextSnapshot.fingerprint(List.of(classes), file, "com.example.app"));
+    }
+}
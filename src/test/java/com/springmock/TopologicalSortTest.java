@@ -0,0 +1,57 @@
+package com.springmock;
+
+import com.springmock.exceptions.CyclicDependencyException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class TopologicalSortTest {
+
+    @Test
+    void deepChain() {
+        int size = 100_000;
+        Map<Integer, Set<Integer>> graph = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            graph.put(i, i + 1 < size ? Set.of(i + 1) : Set.of());
+        }
+        List<Integer> sorted = TopologicalSort.getSorted(graph);
+        Assertions.assertEquals(size, sorted.size());
+        for (int i = 0; i < size; i++) {
+            Assertions.assertEquals(size - 1 - i, sorted.get(i));
+        }
+        Assertions.assertEquals(size, TopologicalSort.getLevels(graph).size());
+    }
+
+    @Test
+    void levels() {
+        Map<String, Set<String>> graph = Map.of(
+                "a", Set.of(),
+                "b", Set.of(),
+                "c", Set.of("a", "b"),
+                "d", Set.of("c", "a"));
+        List<List<String>> levels = TopologicalSort.getLevels(graph);
+        Assertions.assertEquals(3, levels.size());
+        Assertions.assertEquals(Set.of("a", "b"), Set.copyOf(levels.get(0)));
+        Assertions.assertEquals(List.of("c"), levels.get(1));
+        Assertions.assertEquals(List.of("d"), levels.get(2));
+    }
+
+    @Test
+    void cyclePath() {
+        Map<String, Set<String>> graph = Map.of(
+                "a", Set.of("b"),
+                "b", Set.of("c"),
+                "c", Set.of("a"),
+                "d", Set.of("a"));
+        CyclicDependencyException exception = Assertions.assertThrows(CyclicDependencyException.class,
+                () -> TopologicalSort.getSorted(graph));
+        List<?> cycle = exception.getCycle();
+        Assertions.assertEquals(4, cycle.size());
+        Assertions.assertEquals(cycle.get(0), cycle.get(3));
+        Assertions.assertEquals(Set.of("a", "b", "c"), Set.copyOf(cycle));
+    }
+}
@@ -1,17 +1,28 @@
 package com.springmock.tests;
 
 import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.accessors.BeanAccessorFactory;
 import com.springmock.components.AnotherComponent;
 import com.springmock.components.SomeComponent;
 import com.springmock.components.YetOneMoreComponent;
+import com.springmock.exceptions.BeanNameConflictException;
+import com.springmock.exceptions.BeanNotFoundException;
 import com.springmock.exceptions.CyclicDependencyException;
+import com.springmock.exceptions.UnableToCreateBeanException;
+import com.springmock.tests.cyclic.One;
+import com.springmock.tests.cyclic.Two;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 class ApplicationContextTest {
 
@@ -34,6 +45,16 @@ class ApplicationContextTest {
         Assertions.assertThrows(CyclicDependencyException.class, () -> new ApplicationContext("com.springmock.tests.cyclic"));
     }
 
+    @Test
+    void cyclicPath() {
+        CyclicDependencyException exception = Assertions.assertThrows(CyclicDependencyException.class,
+                () -> new ApplicationContext("com.springmock.tests.cyclic"));
+        List<?> cycle = exception.getCycle();
+        Assertions.assertEquals(3, cycle.size());
+        Assertions.assertEquals(cycle.get(0), cycle.get(2));
+        Assertions.assertEquals(Set.of(One.class, Two.class), Set.copyOf(cycle));
+    }
+
     @Test
     void getBeanByName() {
         Object bean = ctx.getBeanByName("SomeComponent");
@@ -41,6 +62,21 @@ class ApplicationContextTest {
         Assertions.assertSame(bean, ctx.getBean(SomeComponent.class));
     }
 
+    @Test
+    void getBeanByQualifiedNameAndAlias() {
+        AnotherComponent anotherComponent = ctx.getBean(AnotherComponent.class);
+        Assertions.assertSame(anotherComponent, ctx.getBeanByName(AnotherComponent.class.getName()));
+        Assertions.assertSame(anotherComponent, ctx.getBeanByName("another"));
+        Assertions.assertSame(anotherComponent, ctx.getBean("another", AnotherComponent.class));
+        Assertions.assertNull(ctx.getBeanByName("missing"));
+        Assertions.assertThrows(BeanNotFoundException.class, () -> ctx.getBean("another", SomeComponent.class));
+    }
+
+    @Test
+    void beanNameConflict() {
+        Assertions.assertThrows(BeanNameConflictException.class, () -> new ApplicationContext("com.springmock.tests.names"));
+    }
+
     @Test
     void getBeans() {
         Map<Class<?>, Object> beans = ctx.getBeans();
@@ -78,5 +114,56 @@ class ApplicationContextTest {
         Assertions.assertEquals(anotherComponent.number, 1);
     }
 
+    @Test
+    void reflectiveAccessors() {
+        ApplicationContext reflectiveCtx = new ApplicationContext(new ContextConfiguration("com.springmock.components")
+                .accessorFactory(BeanAccessorFactory.reflective()));
+        YetOneMoreComponent yetOneMoreComponent = reflectiveCtx.getBean(YetOneMoreComponent.class);
+        Assertions.assertSame(yetOneMoreComponent.someComponent, reflectiveCtx.getBean(SomeComponent.class));
+        Assertions.assertSame(yetOneMoreComponent.someComponent.anotherComponent, reflectiveCtx.getBean(AnotherComponent.class));
+        Assertions.assertEquals(1, reflectiveCtx.getBean(AnotherComponent.class).number);
+    }
+
+    static Stream<BeanAccessorFactory> accessorFactories() {
+        return Stream.of(BeanAccessorFactory.reflective(), BeanAccessorFactory.methodHandles(),
+                BeanAccessorFactory.generated());
+    }
+
+    @ParameterizedTest
+    @MethodSource("accessorFactories")
+    void constructorFailureKeepsTheCause(BeanAccessorFactory accessors) {
+        UnableToCreateBeanException exception = Assertions.assertThrows(UnableToCreateBeanException.class,
+                () -> new ApplicationContext(new ContextConfiguration("com.springmock.tests.constructors")
+                        .accessorFactory(accessors)));
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+        Assertions.assertEquals("no connection", exception.getCause().getMessage());
+        Assertions.assertTrue(exception.getMessage().contains("no connection"));
+    }
+
+    @Test
+    void constructorFailureKeepsTheCauseByDefault() {
+        UnableToCreateBeanException exception = Assertions.assertThrows(UnableToCreateBeanException.class,
+                () -> new ApplicationContext("com.springmock.tests.constructors"));
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+        Assertions.assertEquals("no connection", exception.getCause().getMessage());
+    }
+
+    @Test
+    void parallelCreation() {
+        ApplicationContext parallelCtx = new ApplicationContext(new ContextConfiguration("com.springmock.components")
+                .parallel());
+        Assertions.assertEquals(ctx.getBeans().keySet(), parallelCtx.getBeans().keySet());
+        YetOneMoreComponent yetOneMoreComponent = parallelCtx.getBean(YetOneMoreComponent.class);
+        Assertions.assertSame(yetOneMoreComponent.someComponent, parallelCtx.getBean(SomeComponent.class));
+        Assertions.assertSame(yetOneMoreComponent.someComponent.anotherComponent, parallelCtx.getBean(AnotherComponent.class));
+        Assertions.assertEquals(List.of(1, 2, 3), parallelCtx.getBean(SomeComponent.class).numbers);
+    }
+
+    @Test
+    void parallelCyclic() {
+        Assertions.assertThrows(CyclicDependencyException.class,
+                () -> new ApplicationContext(new ContextConfiguration("com.springmock.tests.cyclic").parallel()));
+    }
+
 
-}
\ No newline at end of file
+}
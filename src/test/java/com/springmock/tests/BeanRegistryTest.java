@@ -0,0 +1,108 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.exceptions.NoUniqueBeanException;
+import com.springmock.tests.lazy.EagerUser;
+import com.springmock.tests.lazy.Expensive;
+import com.springmock.tests.lazy.LazyUser;
+import com.springmock.tests.types.AbstractRepository;
+import com.springmock.tests.types.EmailNotifier;
+import com.springmock.tests.types.MemoryRepository;
+import com.springmock.tests.types.Notifier;
+import com.springmock.tests.types.Registry;
+import com.springmock.tests.types.Repository;
+import com.springmock.tests.types.SmsNotifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class BeanRegistryTest {
+
+    @Test
+    void getBeansIsUnmodifiable() {
+        ApplicationContext ctx = new ApplicationContext("com.springmock.tests.types");
+        Map<Class<?>, Object> beans = ctx.getBeans();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> beans.put(Object.class, new Object()));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> beans.remove(Registry.class));
+        Assertions.assertThrows(UnsupportedOperationException.class, beans::clear);
+        Assertions.assertSame(ctx.getBean(Registry.class), ctx.getBeans().get(Registry.class));
+    }
+
+    @Test
+    void beansAreFoundByClassAndSupertypes() {
+        ApplicationContext ctx = new ApplicationContext("com.springmock.tests.types");
+        Object repository = ctx.getBean(MemoryRepository.class);
+        Assertions.assertSame(repository, ctx.getBean(Repository.class));
+        Assertions.assertSame(repository, ctx.getBean(AbstractRepository.class));
+        Assertions.assertThrows(NoUniqueBeanException.class, () -> ctx.getBean(Notifier.class));
+    }
+
+    @Test
+    void lazyBeansReplaceTheSnapshot() {
+        ApplicationContext ctx = new ApplicationContext("com.springmock.tests.lazy");
+        Map<Class<?>, Object> before = ctx.getBeans();
+        LazyUser lazyUser = ctx.getBean(LazyUser.class);
+        Assertions.assertEquals(Set.of(EagerUser.class), before.keySet());
+        Assertions.assertEquals(Set.of(EagerUser.class, Expensive.class, LazyUser.class), ctx.getBeans().keySet());
+        Assertions.assertSame(lazyUser, ctx.getBean(LazyUser.class));
+    }
+
+    @Test
+    void lazyBeansAreAddedOneByOne() {
+        ApplicationContext ctx = new ApplicationContext(new ContextConfiguration("com.springmock.tests.types")
+                .lazy(true));
+        Assertions.assertEquals(Map.of(), ctx.getBeans());
+        Object repository = ctx.getBean(MemoryRepository.class);
+        Object email = ctx.getBean(EmailNotifier.class);
+        Object sms = ctx.getBean(SmsNotifier.class);
+        Registry registry = ctx.getBean(Registry.class);
+
+        Assertions.assertEquals(Set.of(MemoryRepository.class, EmailNotifier.class, SmsNotifier.class,
+                Registry.class), ctx.getBeans().keySet());
+        Assertions.assertSame(repository, registry.repository);
+        Assertions.assertSame(repository, ctx.getBean(Repository.class));
+        Assertions.assertSame(repository, ctx.getBean(AbstractRepository.class));
+        Assertions.assertSame(email, ctx.getBean(EmailNotifier.class));
+        Assertions.assertSame(sms, ctx.getBeans().get(SmsNotifier.class));
+        Assertions.assertSame(registry, ctx.getBean(Registry.class));
+    }
+
+    @Test
+    void beansAreSafelyPublishedToOtherThreads() throws Exception {
+        ApplicationContext ctx = new ApplicationContext(new ContextConfiguration("com.springmock.tests.types")
+                .lazy(true));
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Registry>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    Registry registry = ctx.getBean(Registry.class);
+                    Assertions.assertNotNull(registry.repository);
+                    Assertions.assertSame(registry.repository, registry.constructorRepository);
+                    return registry;
+                }));
+            }
+            start.countDown();
+            Registry first = results.get(0).get();
+            for (Future<Registry> result : results) {
+                Assertions.assertSame(first, result.get());
+            }
+            Assertions.assertSame(first, ctx.getBeans().get(Registry.class));
+            Assertions.assertSame(first.repository, ctx.getBeans().get(MemoryRepository.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.accessors.BeanAccessorFactory;
+import com.springmock.accessors.ComponentFactory;
+import com.springmock.exceptions.UnableToSetValueException;
+import com.springmock.properties.PropertySource;
+import com.springmock.tests.factories.Gadget;
+import com.springmock.tests.factories.Part;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+class ComponentFactoryTest {
+
+    private static final PropertySource PROPERTIES = PropertySource.of("gadget",
+            Map.of("gadget.size", "3", "gadget.tags", "a, b", "gadget.name", "widget"));
+
+    @Test
+    void factoriesAreRegisteredAsServices() {
+        Assertions.assertEquals("com.springmock.tests.factories.Gadget_ComponentFactory",
+                ComponentFactory.factoryName(Gadget.class));
+        Assertions.assertTrue(ServiceLoader.load(ComponentFactory.class).stream()
+                .anyMatch(provider -> provider.type().getName().equals(ComponentFactory.factoryName(Gadget.class))));
+    }
+
+    @Test
+    void factoryCoversConstructorsAndNonPrivateFields() {
+        ComponentFactory factory = ServiceLoader.load(ComponentFactory.class).stream()
+                .filter(provider -> provider.type().getName().equals(ComponentFactory.factoryName(Gadget.class)))
+                .findFirst().orElseThrow().get();
+        Part part = new Part();
+        Gadget gadget = (Gadget) factory.instantiator(new Class<?>[]{Part.class}).newInstance(new Object[]{part});
+        Assertions.assertSame(part, gadget.constructorPart);
+        Assertions.assertNotNull(factory.instantiator(new Class<?>[0]));
+        Assertions.assertNull(factory.instantiator(new Class<?>[]{String.class}));
+        factory.injector("size").inject(gadget, 5);
+        Assertions.assertEquals(5, gadget.getSize());
+        Assertions.assertNotNull(factory.injector("part"));
+        Assertions.assertNotNull(factory.injector("tags"));
+        Assertions.assertNull(factory.injector("name"));
+    }
+
+    @Test
+    void generatedInjectorsWrapFailedAssignments() {
+        ComponentFactory factory = ServiceLoader.load(ComponentFactory.class).stream()
+                .filter(provider -> provider.type().getName().equals(ComponentFactory.factoryName(Gadget.class)))
+                .findFirst().orElseThrow().get();
+        Gadget gadget = new Gadget();
+        UnableToSetValueException mistyped = Assertions.assertThrows(UnableToSetValueException.class,
+                () -> factory.injector("size").inject(gadget, "five"));
+        Assertions.assertInstanceOf(ClassCastException.class, mistyped.getCause());
+        UnableToSetValueException missing = Assertions.assertThrows(UnableToSetValueException.class,
+                () -> factory.injector("size").inject(gadget, null));
+        Assertions.assertInstanceOf(NullPointerException.class, missing.getCause());
+    }
+
+    @Test
+    void generatedAndReflectiveAccessorsCreateTheSameBeans() {
+        for (BeanAccessorFactory accessors : List.of(BeanAccessorFactory.generated(),
+                BeanAccessorFactory.methodHandles(), BeanAccessorFactory.reflective())) {
+            ApplicationContext ctx = new ApplicationContext(new ContextConfiguration("com.springmock.tests.factories")
+                    .accessorFactory(accessors)
+                    .propertySources(PROPERTIES));
+            Gadget gadget = ctx.getBean(Gadget.class);
+            Assertions.assertSame(ctx.getBean(Part.class), gadget.constructorPart);
+            Assertions.assertSame(ctx.getBean(Part.class), gadget.getPart());
+            Assertions.assertEquals(3, gadget.getSize());
+            Assertions.assertEquals(List.of("a", "b"), gadget.getTags());
+            Assertions.assertEquals("widget", gadget.getName());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.tests.hierarchy.shared.Database;
+import com.springmock.tests.hierarchy.shared.DefaultGreeter;
+import com.springmock.tests.hierarchy.shared.Greeter;
+import com.springmock.tests.hierarchy.tenant.TenantGreeter;
+import com.springmock.tests.hierarchy.tenant.TenantService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HierarchyTest {
+
+    private final ApplicationContext parent = new ApplicationContext("com.springmock.tests.hierarchy.shared");
+
+    private ApplicationContext createChild() {
+        return new ApplicationContext(new ContextConfiguration("com.springmock.tests.hierarchy").parent(parent));
+    }
+
+    @Test
+    void childTakesDependenciesFromParent() {
+        ApplicationContext child = createChild();
+        TenantService service = child.getBean(TenantService.class);
+        Assertions.assertNotNull(service);
+        Assertions.assertSame(parent.getBean(Database.class), service.database);
+        Assertions.assertSame(parent.getBean(Database.class), child.getBean(Database.class));
+        Assertions.assertSame(parent, child.getParent());
+    }
+
+    @Test
+    void childCreatesOnlyItsOwnComponents() {
+        ApplicationContext child = createChild();
+        Assertions.assertFalse(child.getBeans().containsKey(Database.class));
+        Assertions.assertFalse(child.getBeans().containsKey(DefaultGreeter.class));
+        Assertions.assertTrue(child.getBeans().containsKey(TenantService.class));
+        Assertions.assertNull(parent.getBean(TenantService.class));
+    }
+
+    @Test
+    void childrenShareTheParentBeans() {
+        ApplicationContext first = createChild();
+        ApplicationContext second = createChild();
+        Assertions.assertNotSame(first.getBean(TenantService.class), second.getBean(TenantService.class));
+        Assertions.assertSame(first.getBean(TenantService.class).database,
+                second.getBean(TenantService.class).database);
+    }
+
+    @Test
+    void childComponentsHideParentBeans() {
+        ApplicationContext child = createChild();
+        Assertions.assertInstanceOf(TenantGreeter.class, child.getBean(Greeter.class));
+        Assertions.assertInstanceOf(TenantGreeter.class, child.getBean(TenantService.class).greeter);
+        Assertions.assertInstanceOf(DefaultGreeter.class, parent.getBean(Greeter.class));
+    }
+
+    @Test
+    void namesAreResolvedThroughTheParent() {
+        ApplicationContext child = createChild();
+        Assertions.assertSame(parent.getBean(Database.class), child.getBeanByName("Database"));
+        Assertions.assertSame(child.getBean(TenantService.class), child.getBeanByName("TenantService"));
+        Assertions.assertNull(parent.getBeanByName("TenantService"));
+    }
+}
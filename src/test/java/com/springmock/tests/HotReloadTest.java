@@ -0,0 +1,133 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.exceptions.UnmappableStringException;
+import com.springmock.properties.PropertyChangeEvent;
+import com.springmock.properties.PropertySource;
+import com.springmock.tests.properties.Settings;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+class HotReloadTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void onlyChangedFieldsAreInjected() throws IOException {
+        Path file = write("hello", "8080", "1,2,3");
+        ApplicationContext ctx = createContext(file, false);
+        Settings settings = ctx.getBean(Settings.class);
+        String greeting = settings.greeting;
+        List<Integer> ports = settings.ports;
+        BlockingQueue<PropertyChangeEvent> events = new ArrayBlockingQueue<>(10);
+        ctx.addPropertyChangeListener(events::add);
+
+        write("hello", "9090", "1,2,3");
+        Assertions.assertEquals(Set.of("app.port"), ctx.reloadProperties());
+        Assertions.assertEquals(9090, settings.port);
+        Assertions.assertSame(greeting, settings.greeting);
+        Assertions.assertSame(ports, settings.ports);
+        Assertions.assertEquals("9090", ctx.getProperties().get("app.port").toString());
+
+        PropertyChangeEvent event = events.poll();
+        Assertions.assertNotNull(event);
+        Assertions.assertEquals(Set.of("app.port"), event.changed());
+        Assertions.assertEquals("8080", event.previous().get("app.port").toString());
+
+        Assertions.assertEquals(Set.of(), ctx.reloadProperties());
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void failedReloadChangesNothing() throws IOException {
+        Path file = write("hello", "8080", "1,2,3");
+        ApplicationContext ctx = createContext(file, false);
+        Settings settings = ctx.getBean(Settings.class);
+
+        write("bye", "not a port", "4,5");
+        Assertions.assertThrows(UnmappableStringException.class, ctx::reloadProperties);
+        Assertions.assertEquals("hello", settings.greeting);
+        Assertions.assertEquals(8080, settings.port);
+        Assertions.assertEquals(List.of(1, 2, 3), settings.ports);
+        Assertions.assertEquals("hello", ctx.getProperties().get("app.greeting").toString());
+    }
+
+    @Test
+    void failingListenerDoesNotFailTheReload() throws IOException {
+        Path file = write("hello", "8080", "1,2,3");
+        ApplicationContext ctx = createContext(file, false);
+        Settings settings = ctx.getBean(Settings.class);
+        BlockingQueue<PropertyChangeEvent> events = new ArrayBlockingQueue<>(10);
+        ctx.addPropertyChangeListener(event -> {
+            throw new IllegalStateException("listener failed");
+        });
+        ctx.addPropertyChangeListener(events::add);
+
+        write("hello", "9090", "1,2,3");
+        Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        List<Throwable> uncaught = new ArrayList<>();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> uncaught.add(e));
+        try {
+            Assertions.assertEquals(Set.of("app.port"), ctx.reloadProperties());
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(handler);
+        }
+        Assertions.assertEquals(9090, settings.port);
+        Assertions.assertNotNull(events.poll());
+        Assertions.assertEquals(1, uncaught.size());
+        Assertions.assertEquals("listener failed", uncaught.get(0).getMessage());
+    }
+
+    @Test
+    void mappedFileRewrittenInPlaceIsReloaded() throws IOException {
+        Path file = write("hello", "8080", "1,2,3");
+        ApplicationContext ctx = new ApplicationContext(new ContextConfiguration("com.springmock.tests.properties")
+                .propertySources(PropertySource.mappedFile(file)));
+        Settings settings = ctx.getBean(Settings.class);
+
+        write("hello", "9090", "1,2,3");
+        Assertions.assertEquals(Set.of("app.port"), ctx.reloadProperties());
+        Assertions.assertEquals(9090, settings.port);
+        Assertions.assertEquals(Set.of(), ctx.reloadProperties());
+    }
+
+    @Test
+    void watchedFileIsReloaded() throws IOException, InterruptedException {
+        Path file = write("hello", "8080", "1,2,3");
+        ApplicationContext ctx = createContext(file, true);
+        Settings settings = ctx.getBean(Settings.class);
+        BlockingQueue<PropertyChangeEvent> events = new ArrayBlockingQueue<>(10);
+        ctx.addPropertyChangeListener(events::add);
+
+        write("hello", "8080", "4,5,6");
+        PropertyChangeEvent event = events.poll(30, TimeUnit.SECONDS);
+        Assertions.assertNotNull(event);
+        Assertions.assertEquals(Set.of("app.ports"), event.changed());
+        Assertions.assertEquals(List.of(4, 5, 6), settings.ports);
+    }
+
+    private Path write(String greeting, String port, String ports) throws IOException {
+        Path file = directory.resolve("app.properties");
+        Files.writeString(file, "app.greeting=" + greeting + "\napp.port=" + port + "\napp.ports=" + ports + "\n");
+        return file;
+    }
+
+    private static ApplicationContext createContext(Path file, boolean hotReload) {
+        return new ApplicationContext(new ContextConfiguration("com.springmock.tests.properties")
+                .propertySources(PropertySource.propertiesFile(file))
+                .hotReload(hotReload));
+    }
+}
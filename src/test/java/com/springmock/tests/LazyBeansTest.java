@@ -0,0 +1,66 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.components.AnotherComponent;
+import com.springmock.components.SomeComponent;
+import com.springmock.components.YetOneMoreComponent;
+import com.springmock.tests.lazy.EagerUser;
+import com.springmock.tests.lazy.Expensive;
+import com.springmock.tests.lazy.LazyUser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+class LazyBeansTest {
+
+    @Test
+    void lazyBeansAreCreatedOnFirstUse() {
+        ApplicationContext ctx = new ApplicationContext("com.springmock.tests.lazy");
+        Assertions.assertEquals(Set.of(EagerUser.class), ctx.getBeans().keySet());
+
+        LazyUser lazyUser = ctx.getBean(LazyUser.class);
+        Assertions.assertNotNull(lazyUser);
+        Assertions.assertSame(ctx.getBean(Expensive.class), lazyUser.expensive);
+        Assertions.assertEquals(Set.of(EagerUser.class, Expensive.class, LazyUser.class), ctx.getBeans().keySet());
+    }
+
+    @Test
+    void concurrentFirstAccessCreatesOneInstance() throws Exception {
+        ApplicationContext ctx = new ApplicationContext("com.springmock.tests.lazy");
+        int createdBefore = Expensive.CREATED.get();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<LazyUser>> calls = IntStream.range(0, 64)
+                    .<Callable<LazyUser>>mapToObj(i -> () -> ctx.getBean(LazyUser.class))
+                    .toList();
+            List<Future<LazyUser>> results = executor.invokeAll(calls);
+            LazyUser first = results.get(0).get();
+            for (Future<LazyUser> result : results) {
+                Assertions.assertSame(first, result.get());
+                Assertions.assertSame(first.expensive, result.get().expensive);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(createdBefore + 1, Expensive.CREATED.get());
+    }
+
+    @Test
+    void lazyContext() {
+        ApplicationContext ctx = new ApplicationContext(new ContextConfiguration("com.springmock.components").lazy(true));
+        Assertions.assertTrue(ctx.getBeans().isEmpty());
+
+        YetOneMoreComponent yetOneMoreComponent = ctx.getBean(YetOneMoreComponent.class);
+        Assertions.assertSame(ctx.getBean(SomeComponent.class), yetOneMoreComponent.someComponent);
+        Assertions.assertSame(ctx.getBean(AnotherComponent.class), yetOneMoreComponent.someComponent.anotherComponent);
+        Assertions.assertEquals(3, ctx.getBeans().size());
+    }
+}
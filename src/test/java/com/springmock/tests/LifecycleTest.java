@@ -0,0 +1,39 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.exceptions.BeanLifecycleException;
+import com.springmock.tests.lifecycle.failing.Broken;
+import com.springmock.tests.lifecycle.ready.Cache;
+import com.springmock.tests.lifecycle.ready.Report;
+import com.springmock.tests.lifecycle.ready.SearchIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+
+class LifecycleTest {
+
+    @Test
+    void postConstructRunsInDependencyOrder() {
+        ApplicationContext context = new ApplicationContext("com.springmock.tests.lifecycle.ready");
+        context.awaitReady().join();
+        Assertions.assertTrue(context.getBean(Cache.class).warm);
+        Assertions.assertTrue(context.getBean(SearchIndex.class).builtFromWarmCache);
+    }
+
+    @Test
+    void lazyBeansAreInitializedBeforeTheyAreReturned() {
+        ApplicationContext context = new ApplicationContext("com.springmock.tests.lifecycle.ready");
+        Assertions.assertTrue(context.getBean(Report.class).initialized);
+    }
+
+    @Test
+    void failedInitializationIsReportedByAwaitReady() {
+        ApplicationContext context = new ApplicationContext("com.springmock.tests.lifecycle.failing");
+        Assertions.assertNotNull(context.getBean(Broken.class));
+        CompletionException e = Assertions.assertThrows(CompletionException.class, () -> context.awaitReady().join());
+        Assertions.assertInstanceOf(BeanLifecycleException.class, e.getCause());
+        Assertions.assertTrue(e.getCause().getMessage().contains("connection refused"));
+        Assertions.assertInstanceOf(IllegalStateException.class, e.getCause().getCause());
+    }
+}
@@ -0,0 +1,157 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.annotations.Value;
+import com.springmock.annotations.resolvers.ValueResolver;
+import com.springmock.exceptions.MissingPropertiesException;
+import com.springmock.properties.PropertySnapshot;
+import com.springmock.properties.PropertySource;
+import com.springmock.tests.mapped.LargeSettings;
+import com.springmock.tests.properties.Settings;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class PropertySourceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void firstSourceWins() {
+        PropertySnapshot snapshot = PropertySnapshot.load(List.of(
+                PropertySource.of("first", Map.of("a", "1")),
+                PropertySource.of("second", Map.of("a", "2", "b", "3"))));
+        Assertions.assertEquals("1", snapshot.get("a"));
+        Assertions.assertEquals("3", snapshot.get("b"));
+        Assertions.assertNull(snapshot.get("c"));
+        Assertions.assertEquals(List.of("c"), snapshot.missing(List.of("a", "c")));
+    }
+
+    @Test
+    void standardSources() {
+        PropertySnapshot snapshot = PropertySnapshot.standard();
+        Assertions.assertEquals(System.getProperty("java.version"), snapshot.get("java.version"));
+        Assertions.assertEquals("1,2,3", snapshot.get("numbers"));
+    }
+
+    @Test
+    void standardSourcesSeeLaterSystemProperties() throws NoSuchFieldException {
+        Field field = Timeout.class.getDeclaredField("seconds");
+        try {
+            System.setProperty("springmock.test.timeout", "5");
+            Assertions.assertEquals(5, ValueResolver.resolve(field));
+            System.setProperty("springmock.test.timeout", "7");
+            Assertions.assertEquals(7, ValueResolver.resolve(field));
+            Assertions.assertEquals("7", PropertySnapshot.standard().get("springmock.test.timeout"));
+        } finally {
+            System.clearProperty("springmock.test.timeout");
+        }
+    }
+
+    static class Timeout {
+        @Value("springmock.test.timeout")
+        int seconds;
+    }
+
+    @Test
+    void propertiesFile() throws IOException {
+        Path file = directory.resolve("app.properties");
+        Files.writeString(file, "app.greeting=hello\napp.port=8080\napp.ports=1,2,3\n");
+        Settings settings = createSettings(PropertySource.propertiesFile(file));
+        Assertions.assertEquals("hello", settings.greeting);
+        Assertions.assertEquals(8080, settings.port);
+        Assertions.assertEquals(List.of(1, 2, 3), settings.ports);
+    }
+
+    @Test
+    void yamlFile() throws IOException {
+        Path file = directory.resolve("app.yaml");
+        Files.writeString(file, """
+                # application settings
+                app:
+                  greeting: "hello # not a comment"
+                  port: 8080 # a comment
+                  ports:
+                    - 1
+                    - 2
+                    - 3
+                """);
+        Settings settings = createSettings(PropertySource.yamlFile(file));
+        Assertions.assertEquals("hello # not a comment", settings.greeting);
+        Assertions.assertEquals(8080, settings.port);
+        Assertions.assertEquals(List.of(1, 2, 3), settings.ports);
+    }
+
+    @Test
+    void mappedFile() throws IOException {
+        Path file = directory.resolve("large.conf");
+        String ids = IntStream.range(0, 100_000).mapToObj(Integer::toString).collect(Collectors.joining(","));
+        Files.writeString(file, String.join("\n",
+                "# large settings",
+                "large.name = caf\u00e9",
+                "large.ids=" + ids,
+                "large.offsets: 1, 2 ,3\r",
+                "! another comment",
+                "large.hosts=a.example\\,b,c.example",
+                "large.tags=x;y;x",
+                "large.limits=a:1,b:2"));
+        LargeSettings settings = new ApplicationContext(new ContextConfiguration("com.springmock.tests.mapped")
+                .propertySources(PropertySource.mappedFile(file)))
+                .getBean(LargeSettings.class);
+        Assertions.assertEquals("caf\u00e9", settings.name);
+        Assertions.assertEquals(100_000, settings.ids.length);
+        Assertions.assertEquals(99_999, settings.ids[99_999]);
+        Assertions.assertArrayEquals(new long[]{1, 2, 3}, settings.offsets);
+        Assertions.assertEquals(List.of("a.example,b", "c.example"), settings.hosts);
+        Assertions.assertEquals(Set.of("x", "y"), settings.tags);
+        Assertions.assertEquals(Map.of("a", 1, "b", 2), settings.limits);
+    }
+
+    @Test
+    void mappedValuesAreViews() throws IOException {
+        Path file = directory.resolve("small.conf");
+        Files.writeString(file, "a=1,2,3\nb=x\n");
+        Map<String, ? extends CharSequence> properties = PropertySource.mappedFile(file).load();
+        Assertions.assertFalse(properties.get("a") instanceof String);
+        Assertions.assertEquals("1,2,3", properties.get("a").toString());
+        Assertions.assertEquals("2,3", properties.get("a").subSequence(2, 5).toString());
+        Assertions.assertEquals(0, CharSequence.compare("x", properties.get("b")));
+    }
+
+    @Test
+    void precedence() throws IOException {
+        Path file = directory.resolve("app.properties");
+        Files.writeString(file, "app.greeting=hello\napp.port=8080\napp.ports=1,2,3\n");
+        Settings settings = createSettings(PropertySource.of("overrides", Map.of("app.port", "9090")),
+                PropertySource.propertiesFile(file));
+        Assertions.assertEquals(9090, settings.port);
+        Assertions.assertEquals("hello", settings.greeting);
+    }
+
+    @Test
+    void missingPropertiesAreReportedTogether() {
+        MissingPropertiesException e = Assertions.assertThrows(MissingPropertiesException.class,
+                () -> new ApplicationContext("com.springmock.tests.missing"));
+        Assertions.assertEquals(List.of("missing.first", "missing.second"), e.getMissing());
+        Assertions.assertTrue(e.getMessage().contains("AlsoIncomplete.first"));
+        Assertions.assertTrue(e.getMessage().contains("Incomplete.second"));
+    }
+
+    private static Settings createSettings(PropertySource... sources) {
+        return new ApplicationContext(new ContextConfiguration("com.springmock.tests.properties")
+                .propertySources(sources))
+                .getBean(Settings.class);
+    }
+}
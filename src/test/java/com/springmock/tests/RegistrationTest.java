@@ -0,0 +1,74 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.exceptions.NoUniqueBeanException;
+import com.springmock.tests.registration.app.Frontend;
+import com.springmock.tests.registration.app.Greeter;
+import com.springmock.tests.registration.app.GreetingService;
+import com.springmock.tests.registration.app.Repository;
+import com.springmock.tests.registration.plugins.EnglishGreeter;
+import com.springmock.tests.registration.plugins.FrenchGreeter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RegistrationTest {
+
+    private final ApplicationContext context = new ApplicationContext("com.springmock.tests.registration.app");
+
+    @Test
+    void registerRewiresOnlyTheDependents() {
+        GreetingService service = context.getBean(GreetingService.class);
+        Repository repository = context.getBean(Repository.class);
+        Assertions.assertNull(service.greeter);
+
+        context.registerComponent(EnglishGreeter.class);
+
+        GreetingService rewired = context.getBean(GreetingService.class);
+        Assertions.assertNotSame(service, rewired);
+        Assertions.assertInstanceOf(EnglishGreeter.class, rewired.greeter);
+        Assertions.assertSame(rewired.greeter, context.getBean(Greeter.class));
+        Assertions.assertSame(rewired, context.getBean(Frontend.class).service);
+        Assertions.assertSame(repository, context.getBean(Repository.class));
+        Assertions.assertSame(repository, rewired.repository);
+        Assertions.assertSame(rewired.greeter, context.getBeanByName("english"));
+        Assertions.assertTrue(context.getBeans().containsKey(EnglishGreeter.class));
+    }
+
+    @Test
+    void unregisterRewiresTheDependents() {
+        Repository repository = context.getBean(Repository.class);
+        context.registerComponent(EnglishGreeter.class);
+
+        Assertions.assertTrue(context.unregisterComponent(EnglishGreeter.class));
+
+        Assertions.assertNull(context.getBean(Greeter.class));
+        Assertions.assertNull(context.getBean(GreetingService.class).greeter);
+        Assertions.assertSame(context.getBean(GreetingService.class), context.getBean(Frontend.class).service);
+        Assertions.assertSame(repository, context.getBean(Repository.class));
+        Assertions.assertNull(context.getBeanByName("english"));
+        Assertions.assertFalse(context.unregisterComponent(EnglishGreeter.class));
+    }
+
+    @Test
+    void unregisterDestroysTheRemovedBean() {
+        context.registerComponent(EnglishGreeter.class);
+        EnglishGreeter greeter = (EnglishGreeter) context.getBean(Greeter.class);
+        Assertions.assertFalse(greeter.closed);
+
+        context.unregisterComponent(EnglishGreeter.class);
+
+        Assertions.assertTrue(greeter.closed);
+    }
+
+    @Test
+    void failedRegistrationLeavesTheContextUnchanged() {
+        context.registerComponent(EnglishGreeter.class);
+        GreetingService service = context.getBean(GreetingService.class);
+
+        Assertions.assertThrows(NoUniqueBeanException.class, () -> context.registerComponent(FrenchGreeter.class));
+
+        Assertions.assertSame(service, context.getBean(GreetingService.class));
+        Assertions.assertInstanceOf(EnglishGreeter.class, context.getBean(Greeter.class));
+        Assertions.assertNull(context.getBeanByName("french"));
+    }
+}
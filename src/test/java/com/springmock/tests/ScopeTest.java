@@ -0,0 +1,54 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.tests.scopes.Buffer;
+import com.springmock.tests.scopes.Handler;
+import com.springmock.tests.scopes.Request;
+import com.springmock.tests.scopes.Service;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+class ScopeTest {
+
+    static ApplicationContext ctx;
+
+    @BeforeAll
+    static void beforeAll() {
+        ctx = new ApplicationContext("com.springmock.tests.scopes");
+    }
+
+    @Test
+    void prototypeIsCreatedOnEveryGetBean() {
+        Request first = ctx.getBean(Request.class);
+        Request second = ctx.getBean(Request.class);
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(ctx.getBean(Service.class), first.service);
+        Assertions.assertSame(ctx.getBean(Service.class), second.service);
+    }
+
+    @Test
+    void prototypeIsInjectedIntoSingleton() {
+        Request request = ctx.getBean(Handler.class).request;
+        Assertions.assertNotNull(request);
+        Assertions.assertNotSame(request, ctx.getBean(Request.class));
+    }
+
+    @Test
+    void onlySingletonsAreRegistered() {
+        Assertions.assertEquals(Set.of(Service.class, Handler.class), ctx.getBeans().keySet());
+    }
+
+    @Test
+    void pooledBeanIsResetAndReused() {
+        Buffer buffer = ctx.getBean(Buffer.class);
+        buffer.used = 10;
+        ctx.release(buffer);
+        Buffer reused = ctx.getBean(Buffer.class);
+        Assertions.assertSame(buffer, reused);
+        Assertions.assertEquals(0, reused.used);
+        Assertions.assertNotSame(reused, ctx.getBean(Buffer.class));
+    }
+}
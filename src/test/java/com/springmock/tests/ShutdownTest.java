@@ -0,0 +1,64 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.exceptions.BeanLifecycleException;
+import com.springmock.startup.ShutdownReport;
+import com.springmock.tests.shutdown.hanging.FileHandle;
+import com.springmock.tests.shutdown.hanging.StuckResource;
+import com.springmock.tests.shutdown.ordered.ConnectionPool;
+import com.springmock.tests.shutdown.ordered.MetricsExporter;
+import com.springmock.tests.shutdown.ordered.OrderService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class ShutdownTest {
+
+    @Test
+    void beansAreDestroyedAfterTheirDependents() {
+        ApplicationContext context = new ApplicationContext("com.springmock.tests.shutdown.ordered");
+        OrderService service = context.getBean(OrderService.class);
+        context.close();
+        Assertions.assertTrue(service.flushedWithOpenPool);
+        Assertions.assertTrue(service.pool.closed);
+        Assertions.assertTrue(context.getBean(MetricsExporter.class).stopped);
+    }
+
+    @Test
+    void shutdownIsReportedPerBean() {
+        ApplicationContext context = new ApplicationContext("com.springmock.tests.shutdown.ordered");
+        Assertions.assertNull(context.getShutdownReport());
+        try (context) {
+            Assertions.assertNotNull(context.getBean(ConnectionPool.class));
+        }
+        ShutdownReport report = context.getShutdownReport();
+        Set<Class<?>> destroyed = report.getBeans().stream()
+                .map(ShutdownReport.BeanShutdown::type)
+                .collect(Collectors.toSet());
+        Assertions.assertEquals(Set.of(ConnectionPool.class, OrderService.class, MetricsExporter.class), destroyed);
+        Assertions.assertTrue(report.getFailures().isEmpty());
+        context.close();
+        Assertions.assertSame(report, context.getShutdownReport());
+    }
+
+    @Test
+    void timedOutBeanDoesNotBlockTheShutdown() {
+        ApplicationContext context = new ApplicationContext(new ContextConfiguration(
+                "com.springmock.tests.shutdown.hanging").shutdownTimeout(Duration.ofMillis(100)));
+        FileHandle handle = context.getBean(FileHandle.class);
+        try {
+            BeanLifecycleException e = Assertions.assertThrows(BeanLifecycleException.class, context::close);
+            Assertions.assertEquals(1, e.getSuppressed().length);
+        } finally {
+            StuckResource.RELEASE.countDown();
+        }
+        Assertions.assertTrue(handle.closed);
+        ShutdownReport.BeanShutdown stuck = context.getShutdownReport().getFailures().get(0);
+        Assertions.assertEquals(StuckResource.class, stuck.type());
+        Assertions.assertEquals(ShutdownReport.Outcome.TIMED_OUT, stuck.outcome());
+    }
+}
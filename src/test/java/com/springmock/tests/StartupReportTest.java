@@ -0,0 +1,77 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.startup.StartupReport;
+import com.springmock.tests.types.MemoryRepository;
+import com.springmock.tests.types.Registry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+class StartupReportTest {
+    private static final String PACKAGE = "com.springmock.tests.types";
+
+    @Test
+    void reportIsDisabledByDefault() {
+        Assertions.assertNull(new ApplicationContext(PACKAGE).getStartupReport());
+    }
+
+    @Test
+    void phasesAndBeansAreRecorded() {
+        StartupReport report = new ApplicationContext(new ContextConfiguration(PACKAGE).recordStartup(true))
+                .getStartupReport();
+        Assertions.assertNotNull(report);
+        List<String> phases = report.getPhases().stream().map(StartupReport.PhaseTiming::name).toList();
+        Assertions.assertEquals(List.of(StartupReport.SCAN, StartupReport.DEPENDENCIES, StartupReport.SORT,
+                StartupReport.CONSTRUCTORS, StartupReport.DEFINITIONS, StartupReport.PROPERTIES,
+                StartupReport.INSTANTIATION, StartupReport.POPULATION, StartupReport.NAMES,
+                StartupReport.REGISTRY), phases);
+        Assertions.assertTrue(report.getPhaseNanos(StartupReport.SCAN) > 0);
+        Assertions.assertTrue(report.getTotalNanos() >= report.getPhaseNanos(StartupReport.SCAN));
+
+        StartupReport.BeanTiming registry = report.getBeans().stream()
+                .filter(bean -> bean.type() == Registry.class)
+                .findFirst().orElseThrow();
+        Assertions.assertTrue(registry.constructionNanos() > 0);
+        Assertions.assertTrue(registry.autowiringNanos() > 0);
+        Assertions.assertTrue(report.getBeans().stream().anyMatch(bean -> bean.type() == MemoryRepository.class));
+        Assertions.assertEquals(2, report.getSlowestBeans(2).size());
+    }
+
+    @Test
+    void parallelPhasesAreAccumulated() {
+        StartupReport report = new ApplicationContext(new ContextConfiguration(PACKAGE).recordStartup(true).parallel())
+                .getStartupReport();
+        Assertions.assertTrue(report.getPhaseNanos(StartupReport.INSTANTIATION) > 0);
+        Assertions.assertTrue(report.getPhaseNanos(StartupReport.POPULATION) > 0);
+    }
+
+    @Test
+    void flightRecorderEvents(@TempDir Path directory) throws IOException {
+        Path dump = directory.resolve("startup.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.springmock.StartupPhase");
+            recording.enable("com.springmock.BeanStartup");
+            recording.start();
+            new ApplicationContext(new ContextConfiguration(PACKAGE).recordStartup(true));
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Assertions.assertTrue(events.stream().anyMatch(event ->
+                event.getEventType().getName().equals("com.springmock.StartupPhase")
+                        && StartupReport.SCAN.equals(event.getString("phase"))
+                        && !event.getDuration().isZero()));
+        Assertions.assertTrue(events.stream().anyMatch(event ->
+                event.getEventType().getName().equals("com.springmock.BeanStartup")
+                        && Registry.class.getName().equals(event.getClass("beanClass").getName())));
+    }
+}
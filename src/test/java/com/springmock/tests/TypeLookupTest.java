@@ -0,0 +1,66 @@
+package com.springmock.tests;
+
+import com.springmock.ApplicationContext;
+import com.springmock.ContextConfiguration;
+import com.springmock.exceptions.NoUniqueBeanException;
+import com.springmock.tests.types.AbstractRepository;
+import com.springmock.tests.types.EmailNotifier;
+import com.springmock.tests.types.MemoryRepository;
+import com.springmock.tests.types.Notifier;
+import com.springmock.tests.types.Registry;
+import com.springmock.tests.types.Repository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TypeLookupTest {
+
+    static ApplicationContext ctx;
+
+    @BeforeAll
+    static void beforeAll() {
+        ctx = new ApplicationContext("com.springmock.tests.types");
+    }
+
+    @Test
+    void getBeanByInterfaceAndSuperclass() {
+        MemoryRepository repository = ctx.getBean(MemoryRepository.class);
+        Assertions.assertNotNull(repository);
+        Assertions.assertSame(repository, ctx.getBean(Repository.class));
+        Assertions.assertSame(repository, ctx.getBean(AbstractRepository.class));
+    }
+
+    @Test
+    void injectByInterfaceAndSuperclass() {
+        Registry registry = ctx.getBean(Registry.class);
+        Assertions.assertSame(ctx.getBean(MemoryRepository.class), registry.repository);
+        Assertions.assertSame(ctx.getBean(MemoryRepository.class), registry.constructorRepository);
+    }
+
+    @Test
+    void getBeanByAmbiguousType() {
+        Assertions.assertNotNull(ctx.getBean(EmailNotifier.class));
+        Assertions.assertThrows(NoUniqueBeanException.class, () -> ctx.getBean(Notifier.class));
+    }
+
+    @Test
+    void getBeanOfUnknownType() {
+        Assertions.assertNull(ctx.getBean(Runnable.class));
+    }
+
+    @Test
+    void ambiguousInjectionIsReportedAtStartup() {
+        NoUniqueBeanException e = Assertions.assertThrows(NoUniqueBeanException.class,
+                () -> new ApplicationContext("com.springmock.tests.ambiguous"));
+        Assertions.assertTrue(e.getMessage().contains("MailSender"));
+        Assertions.assertTrue(e.getMessage().contains("PostSender"));
+    }
+
+    @Test
+    void ambiguousParentTypeIsReportedAtStartup() {
+        NoUniqueBeanException e = Assertions.assertThrows(NoUniqueBeanException.class,
+                () -> new ApplicationContext(new ContextConfiguration("com.springmock.tests.notifications")
+                        .parent(ctx)));
+        Assertions.assertTrue(e.getMessage().contains(Notifier.class.getName()));
+    }
+}
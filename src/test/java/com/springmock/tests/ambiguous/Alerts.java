@@ -0,0 +1,10 @@
+package com.springmock.tests.ambiguous;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+
+@Component
+public class Alerts {
+    @Autowired
+    public Sender sender;
+}
@@ -0,0 +1,7 @@
+package com.springmock.tests.ambiguous;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class MailSender implements Sender {
+}
@@ -0,0 +1,4 @@
+package com.springmock.tests.ambiguous;
+
+public interface Sender {
+}
@@ -0,0 +1,76 @@
+package com.springmock.tests.annotations;
+
+import com.springmock.annotations.resolvers.ValueParser;
+import com.springmock.annotations.resolvers.converters.Converters;
+import com.springmock.exceptions.IllegalTypeException;
+import com.springmock.exceptions.UnmappableStringException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConvertersTest {
+
+    @Test
+    public void convert_builtInTypes() {
+        assertEquals(42, ValueParser.convert("42", Integer.class));
+        assertEquals(42L, ValueParser.convert("42", long.class));
+        assertEquals(1.5f, ValueParser.convert("1.5", Float.class));
+        assertEquals('x', ValueParser.convert("x", Character.class));
+        assertEquals(true, ValueParser.convert("true", boolean.class));
+        assertEquals("text", ValueParser.convert("text", String.class));
+    }
+
+    @Test
+    public void convert_primitiveSharesWrapperConverter() {
+        assertSame(Converters.get(Integer.class), Converters.get(int.class));
+    }
+
+    @Test
+    public void convert_providedTypes() {
+        assertEquals(Duration.ofSeconds(30), ValueParser.convert("PT30S", Duration.class));
+        assertEquals(new BigDecimal("10.25"), ValueParser.convert("10.25", BigDecimal.class));
+        assertEquals(URI.create("https://example.com"), ValueParser.convert("https://example.com", URI.class));
+        assertEquals(ChronoUnit.DAYS, ValueParser.convert("DAYS", ChronoUnit.class));
+    }
+
+    @Test
+    public void convert_unsupportedType() {
+        assertFalse(Converters.supports(Exception.class));
+        assertTrue(Converters.supports(ChronoUnit.class));
+        assertThrows(IllegalTypeException.class, () -> ValueParser.convert("1", Exception.class));
+    }
+
+    @Test
+    public void convert_unmappableString() {
+        assertThrows(UnmappableStringException.class, () -> ValueParser.convert("one", Integer.class));
+        assertThrows(UnmappableStringException.class, () -> ValueParser.convert("xy", Character.class));
+        assertThrows(UnmappableStringException.class, () -> ValueParser.convert("yes", Boolean.class));
+    }
+
+    @Test
+    public void convert_unmappableStringKeepsTheCause() {
+        UnmappableStringException number = assertThrows(UnmappableStringException.class,
+                () -> ValueParser.convert("one", Integer.class));
+        assertInstanceOf(NumberFormatException.class, number.getCause());
+        UnmappableStringException duration = assertThrows(UnmappableStringException.class,
+                () -> ValueParser.convert("soon", Duration.class));
+        assertInstanceOf(DateTimeParseException.class, duration.getCause());
+    }
+
+    @Test
+    public void convert_booleanIgnoresCase() {
+        assertEquals(true, ValueParser.convert("TRUE", Boolean.class));
+        assertEquals(false, ValueParser.convert("False", boolean.class));
+    }
+}
@@ -2,6 +2,7 @@ package com.springmock.tests.annotations;
 
 import com.springmock.annotations.resolvers.MultiValueResolver;
 import com.springmock.exceptions.IllegalTypeException;
+import com.springmock.exceptions.UnmappableStringException;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +16,8 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MultiValueResolverTest {
@@ -47,6 +50,36 @@ class MultiValueResolverTest {
         assertArrayEquals(new String[]{"1", "2", "3"}, wrapperArray);
     }
 
+    @Test
+    public void resolve_arrayPrimitiveDoubles() throws NoSuchFieldException {
+        @NotNull Field field = TestClass.class.getDeclaredField("primitiveDoubleArray");
+        Object result = MultiValueResolver.resolve(field);
+        assertTrue(result instanceof double[]);
+        assertArrayEquals(new double[]{1.5, 2.5, 3.5}, (double[]) result);
+    }
+
+    @Test
+    public void resolve_arrayPrimitiveInvalidElement() throws NoSuchFieldException {
+        @NotNull Field field = TestClass.class.getDeclaredField("invalidLongArray");
+        UnmappableStringException e = assertThrows(UnmappableStringException.class,
+                () -> MultiValueResolver.resolve(field));
+        assertInstanceOf(NumberFormatException.class, e.getCause());
+    }
+
+    @Test
+    public void resolve_arrayPrimitiveBooleans() throws NoSuchFieldException {
+        Field field = TestClass.class.getDeclaredField("primitiveBooleanArray");
+        assertArrayEquals(new boolean[]{true, false, true}, (boolean[]) MultiValueResolver.resolve(field));
+    }
+
+    @Test
+    public void resolve_arrayPrimitiveInvalidBoolean() throws NoSuchFieldException {
+        Field field = TestClass.class.getDeclaredField("invalidBooleanArray");
+        UnmappableStringException e = assertThrows(UnmappableStringException.class,
+                () -> MultiValueResolver.resolve(field));
+        assertTrue(e.getMessage().contains("element 1 'yes'"));
+    }
+
     @Test
     public void resolve_arrayInvalidType() throws NoSuchFieldException {
         @NotNull Field field = TestClass.class.getDeclaredField("invalidArray");
@@ -91,4 +124,70 @@ class MultiValueResolverTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void resolve_literalDelimiterWithEscape() throws NoSuchFieldException {
+        Field field = TestClass.class.getDeclaredField("pipedList");
+        Object result = MultiValueResolver.resolve(field);
+        assertEquals(List.of("alpha", "beta|gamma", "delta"), result);
+    }
+
+    @Test
+    public void resolve_dotDelimiter() throws NoSuchFieldException {
+        Field field = TestClass.class.getDeclaredField("dottedArray");
+        assertArrayEquals(new int[]{1, 2, 3}, (int[]) MultiValueResolver.resolve(field));
+    }
+
+    @Test
+    public void resolve_mapWithCustomDelimiters() throws NoSuchFieldException {
+        Field field = TestClass.class.getDeclaredField("spacedMap");
+        assertEquals(Map.of("one", 1, "two", 2), MultiValueResolver.resolve(field));
+    }
+
+    @Test
+    public void resolve_emptyDelimiter() throws NoSuchFieldException {
+        Field field = TestClass.class.getDeclaredField("emptyDelimiterArray");
+        assertThrows(IllegalArgumentException.class, () -> MultiValueResolver.resolve(field));
+    }
+
+    @Test
+    public void resolve_emptyKeyValueDelimiter() throws NoSuchFieldException {
+        Field field = TestClass.class.getDeclaredField("emptyKeyValueDelimiterMap");
+        assertThrows(IllegalArgumentException.class, () -> MultiValueResolver.resolve(field));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void resolve_collectionsAreMutable() throws NoSuchFieldException {
+        List<Double> list = (List<Double>) MultiValueResolver.resolve(TestClass.class.getDeclaredField("wrapperList"));
+        list.add(4.5);
+        Set<Long> set = (Set<Long>) MultiValueResolver.resolve(TestClass.class.getDeclaredField("wrapperSet"));
+        set.add(4L);
+        Map<String, Boolean> map = (Map<String, Boolean>) MultiValueResolver.resolve(
+                TestClass.class.getDeclaredField("wrapperMap"));
+        map.put("maybe", true);
+        assertEquals(List.of(1.5, 2.5, 3.5, 4.5), list);
+        assertEquals(Set.of(1L, 2L, 3L, 4L), set);
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    public void resolve_trailingDelimiterIsDropped() throws NoSuchFieldException {
+        Field array = TestClass.class.getDeclaredField("trailingDelimiterArray");
+        assertArrayEquals(new int[]{1, 2, 3}, (int[]) MultiValueResolver.resolve(array));
+        Field list = TestClass.class.getDeclaredField("trailingDelimiterList");
+        assertEquals(List.of(1, 2, 3), MultiValueResolver.resolve(list));
+    }
+
+    @Test
+    public void resolve_backslashIsLiteralByDefault() throws NoSuchFieldException {
+        Field field = TestClass.class.getDeclaredField("paths");
+        assertEquals(List.of("C:\\temp", "D:\\data"), MultiValueResolver.resolve(field));
+    }
+
+    @Test
+    public void resolve_backslashEscapesWhenEnabled() throws NoSuchFieldException {
+        Field field = TestClass.class.getDeclaredField("escapedPaths");
+        assertEquals(List.of("C:temp", "D:data"), MultiValueResolver.resolve(field));
+    }
+
+}
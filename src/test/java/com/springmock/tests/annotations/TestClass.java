@@ -21,6 +21,12 @@ public class TestClass {
     @MultiValue("numbers")
     Exception[] invalidArray;
 
+    @MultiValue("numbersDouble")
+    double[] primitiveDoubleArray;
+
+    @MultiValue("numbersInvalid")
+    long[] invalidLongArray;
+
     @MultiValue("numbersDouble")
     List<Double> wrapperList;
 
@@ -30,5 +36,38 @@ public class TestClass {
     @MultiValue("boolMap")
     Map<String, Boolean> wrapperMap;
 
+    @MultiValue(value = "pipedNames", delimiter = "|", escape = true)
+    List<String> pipedList;
+
+    @MultiValue(value = "dottedNumbers", delimiter = ".")
+    int[] dottedArray;
+
+    @MultiValue(value = "spacedMap", delimiter = ";", keyValueDelimiter = "=")
+    Map<String, Integer> spacedMap;
+
+    @MultiValue("booleans")
+    boolean[] primitiveBooleanArray;
+
+    @MultiValue("booleansInvalid")
+    boolean[] invalidBooleanArray;
+
+    @MultiValue(value = "numbers", delimiter = "")
+    int[] emptyDelimiterArray;
+
+    @MultiValue(value = "spacedMap", delimiter = ";", keyValueDelimiter = "")
+    Map<String, Integer> emptyKeyValueDelimiterMap;
+
+    @MultiValue("trailingNumbers")
+    int[] trailingDelimiterArray;
+
+    @MultiValue("trailingNumbers")
+    List<Integer> trailingDelimiterList;
+
+    @MultiValue("paths")
+    List<String> paths;
+
+    @MultiValue(value = "paths", escape = true)
+    List<String> escapedPaths;
+
 
 }
@@ -0,0 +1,11 @@
+package com.springmock.tests.constructors;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class Exploding {
+
+    public Exploding() {
+        throw new IllegalStateException("no connection");
+    }
+}
@@ -0,0 +1,45 @@
+package com.springmock.tests.factories;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+import com.springmock.annotations.MultiValue;
+import com.springmock.annotations.Value;
+
+import java.util.List;
+
+@Component
+public class Gadget {
+    public final Part constructorPart;
+    @Autowired
+    Part part;
+    @Value("gadget.size")
+    int size;
+    @MultiValue("gadget.tags")
+    List<String> tags;
+    @Value("gadget.name")
+    private String name;
+
+    public Gadget() {
+        this(null);
+    }
+
+    public Gadget(Part constructorPart) {
+        this.constructorPart = constructorPart;
+    }
+
+    public Part getPart() {
+        return part;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,7 @@
+package com.springmock.tests.factories;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class Part {
+}
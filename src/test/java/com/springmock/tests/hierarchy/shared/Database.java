@@ -0,0 +1,7 @@
+package com.springmock.tests.hierarchy.shared;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class Database {
+}
@@ -0,0 +1,11 @@
+package com.springmock.tests.hierarchy.shared;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class DefaultGreeter implements Greeter {
+    @Override
+    public String greet(String name) {
+        return "Hello, " + name;
+    }
+}
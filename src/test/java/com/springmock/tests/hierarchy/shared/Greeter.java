@@ -0,0 +1,5 @@
+package com.springmock.tests.hierarchy.shared;
+
+public interface Greeter {
+    String greet(String name);
+}
@@ -0,0 +1,12 @@
+package com.springmock.tests.hierarchy.tenant;
+
+import com.springmock.annotations.Component;
+import com.springmock.tests.hierarchy.shared.Greeter;
+
+@Component
+public class TenantGreeter implements Greeter {
+    @Override
+    public String greet(String name) {
+        return "Welcome, " + name;
+    }
+}
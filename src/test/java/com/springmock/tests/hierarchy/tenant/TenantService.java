@@ -0,0 +1,17 @@
+package com.springmock.tests.hierarchy.tenant;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+import com.springmock.tests.hierarchy.shared.Database;
+import com.springmock.tests.hierarchy.shared.Greeter;
+
+@Component
+public class TenantService {
+    public final Database database;
+    @Autowired
+    public Greeter greeter;
+
+    public TenantService(Database database) {
+        this.database = database;
+    }
+}
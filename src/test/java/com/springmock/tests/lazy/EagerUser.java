@@ -0,0 +1,7 @@
+package com.springmock.tests.lazy;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class EagerUser {
+}
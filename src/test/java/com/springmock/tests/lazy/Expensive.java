@@ -0,0 +1,16 @@
+package com.springmock.tests.lazy;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Lazy
+@Component
+public class Expensive {
+    public static final AtomicInteger CREATED = new AtomicInteger();
+
+    public Expensive() {
+        CREATED.incrementAndGet();
+    }
+}
@@ -0,0 +1,12 @@
+package com.springmock.tests.lazy;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+import com.springmock.annotations.Lazy;
+
+@Lazy
+@Component
+public class LazyUser {
+    @Autowired
+    public Expensive expensive;
+}
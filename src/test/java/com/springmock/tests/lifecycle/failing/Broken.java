@@ -0,0 +1,15 @@
+package com.springmock.tests.lifecycle.failing;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.PostConstruct;
+
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class Broken {
+
+    @PostConstruct
+    CompletableFuture<Void> connect() {
+        return CompletableFuture.failedFuture(new IllegalStateException("connection refused"));
+    }
+}
@@ -0,0 +1,18 @@
+package com.springmock.tests.lifecycle.ready;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.PostConstruct;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class Cache {
+    public volatile boolean warm;
+
+    @PostConstruct
+    CompletableFuture<Void> warmUp() {
+        return CompletableFuture.runAsync(() -> warm = true,
+                CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+    }
+}
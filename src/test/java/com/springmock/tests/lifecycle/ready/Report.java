@@ -0,0 +1,19 @@
+package com.springmock.tests.lifecycle.ready;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+import com.springmock.annotations.Lazy;
+import com.springmock.annotations.PostConstruct;
+
+@Lazy
+@Component
+public class Report {
+    @Autowired
+    public SearchIndex index;
+    public boolean initialized;
+
+    @PostConstruct
+    public void init() {
+        initialized = index != null;
+    }
+}
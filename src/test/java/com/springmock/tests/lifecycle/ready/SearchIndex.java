@@ -0,0 +1,19 @@
+package com.springmock.tests.lifecycle.ready;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.PostConstruct;
+
+@Component
+public class SearchIndex {
+    public final Cache cache;
+    public volatile boolean builtFromWarmCache;
+
+    public SearchIndex(Cache cache) {
+        this.cache = cache;
+    }
+
+    @PostConstruct
+    void build() {
+        builtFromWarmCache = cache.warm;
+    }
+}
@@ -0,0 +1,25 @@
+package com.springmock.tests.mapped;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.MultiValue;
+import com.springmock.annotations.Value;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class LargeSettings {
+    @Value("large.name")
+    public String name;
+    @MultiValue("large.ids")
+    public int[] ids;
+    @MultiValue("large.offsets")
+    public long[] offsets;
+    @MultiValue(value = "large.hosts", escape = true)
+    public List<String> hosts;
+    @MultiValue(value = "large.tags", delimiter = ";")
+    public Set<String> tags;
+    @MultiValue("large.limits")
+    public Map<String, Integer> limits;
+}
@@ -0,0 +1,12 @@
+package com.springmock.tests.missing;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.Lazy;
+import com.springmock.annotations.Value;
+
+@Lazy
+@Component
+public class AlsoIncomplete {
+    @Value("missing.first")
+    public String first;
+}
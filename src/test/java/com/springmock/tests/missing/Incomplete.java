@@ -0,0 +1,17 @@
+package com.springmock.tests.missing;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.MultiValue;
+import com.springmock.annotations.Value;
+
+import java.util.List;
+
+@Component
+public class Incomplete {
+    @Value("missing.first")
+    public String first;
+    @MultiValue("missing.second")
+    public List<Integer> second;
+    @Value("number")
+    public Integer number;
+}
@@ -0,0 +1,7 @@
+package com.springmock.tests.names;
+
+import com.springmock.annotations.Component;
+
+@Component("duplicate")
+public class First {
+}
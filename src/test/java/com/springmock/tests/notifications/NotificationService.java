@@ -0,0 +1,13 @@
+package com.springmock.tests.notifications;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+import com.springmock.annotations.Lazy;
+import com.springmock.tests.types.Notifier;
+
+@Lazy
+@Component
+public class NotificationService {
+    @Autowired
+    public Notifier notifier;
+}
@@ -0,0 +1,17 @@
+package com.springmock.tests.properties;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.MultiValue;
+import com.springmock.annotations.Value;
+
+import java.util.List;
+
+@Component
+public class Settings {
+    @Value("app.greeting")
+    public String greeting;
+    @Value("app.port")
+    public Integer port;
+    @MultiValue("app.ports")
+    public List<Integer> ports;
+}
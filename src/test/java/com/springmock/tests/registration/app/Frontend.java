@@ -0,0 +1,12 @@
+package com.springmock.tests.registration.app;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class Frontend {
+    public final GreetingService service;
+
+    public Frontend(GreetingService service) {
+        this.service = service;
+    }
+}
@@ -0,0 +1,5 @@
+package com.springmock.tests.registration.app;
+
+public interface Greeter {
+    String greet(String name);
+}
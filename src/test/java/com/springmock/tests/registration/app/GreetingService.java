@@ -0,0 +1,12 @@
+package com.springmock.tests.registration.app;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+
+@Component
+public class GreetingService {
+    @Autowired
+    public Greeter greeter;
+    @Autowired
+    public Repository repository;
+}
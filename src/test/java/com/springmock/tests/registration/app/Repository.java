@@ -0,0 +1,7 @@
+package com.springmock.tests.registration.app;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class Repository {
+}
@@ -0,0 +1,20 @@
+package com.springmock.tests.registration.plugins;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.PreDestroy;
+import com.springmock.tests.registration.app.Greeter;
+
+@Component("english")
+public class EnglishGreeter implements Greeter {
+    public volatile boolean closed;
+
+    @Override
+    public String greet(String name) {
+        return "Hello, " + name;
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+    }
+}
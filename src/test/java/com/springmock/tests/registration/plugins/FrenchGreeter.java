@@ -0,0 +1,12 @@
+package com.springmock.tests.registration.plugins;
+
+import com.springmock.annotations.Component;
+import com.springmock.tests.registration.app.Greeter;
+
+@Component("french")
+public class FrenchGreeter implements Greeter {
+    @Override
+    public String greet(String name) {
+        return "Bonjour, " + name;
+    }
+}
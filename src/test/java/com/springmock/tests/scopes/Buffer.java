@@ -0,0 +1,16 @@
+package com.springmock.tests.scopes;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.Reset;
+import com.springmock.annotations.Scope;
+
+@Component
+@Scope(value = Scope.POOLED, poolSize = 2)
+public class Buffer {
+    public int used;
+
+    @Reset
+    void clear() {
+        used = 0;
+    }
+}
@@ -0,0 +1,10 @@
+package com.springmock.tests.scopes;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+
+@Component
+public class Handler {
+    @Autowired
+    public Request request;
+}
@@ -0,0 +1,12 @@
+package com.springmock.tests.scopes;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+import com.springmock.annotations.Scope;
+
+@Component
+@Scope(Scope.PROTOTYPE)
+public class Request {
+    @Autowired
+    public Service service;
+}
@@ -0,0 +1,7 @@
+package com.springmock.tests.scopes;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class Service {
+}
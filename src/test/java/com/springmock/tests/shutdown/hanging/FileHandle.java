@@ -0,0 +1,19 @@
+package com.springmock.tests.shutdown.hanging;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.PreDestroy;
+
+@Component
+public class FileHandle {
+    public final StuckResource resource;
+    public volatile boolean closed;
+
+    public FileHandle(StuckResource resource) {
+        this.resource = resource;
+    }
+
+    @PreDestroy
+    void close() {
+        closed = true;
+    }
+}
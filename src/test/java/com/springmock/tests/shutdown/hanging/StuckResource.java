@@ -0,0 +1,16 @@
+package com.springmock.tests.shutdown.hanging;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.PreDestroy;
+
+import java.util.concurrent.CountDownLatch;
+
+@Component
+public class StuckResource {
+    public static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    @PreDestroy
+    void release() throws InterruptedException {
+        RELEASE.await();
+    }
+}
@@ -0,0 +1,14 @@
+package com.springmock.tests.shutdown.ordered;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.PreDestroy;
+
+@Component
+public class ConnectionPool {
+    public volatile boolean closed;
+
+    @PreDestroy
+    void close() {
+        closed = true;
+    }
+}
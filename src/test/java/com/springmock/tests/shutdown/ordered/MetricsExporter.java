@@ -0,0 +1,14 @@
+package com.springmock.tests.shutdown.ordered;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.PreDestroy;
+
+@Component
+public class MetricsExporter {
+    public volatile boolean stopped;
+
+    @PreDestroy
+    void stop() {
+        stopped = true;
+    }
+}
@@ -0,0 +1,21 @@
+package com.springmock.tests.shutdown.ordered;
+
+import com.springmock.annotations.Component;
+import com.springmock.annotations.PreDestroy;
+
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class OrderService {
+    public final ConnectionPool pool;
+    public volatile boolean flushedWithOpenPool;
+
+    public OrderService(ConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    @PreDestroy
+    CompletableFuture<Void> flush() {
+        return CompletableFuture.runAsync(() -> flushedWithOpenPool = !pool.closed);
+    }
+}
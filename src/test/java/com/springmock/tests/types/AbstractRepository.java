@@ -0,0 +1,4 @@
+package com.springmock.tests.types;
+
+public abstract class AbstractRepository implements Repository {
+}
@@ -0,0 +1,11 @@
+package com.springmock.tests.types;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class MemoryRepository extends AbstractRepository {
+    @Override
+    public String find() {
+        return "memory";
+    }
+}
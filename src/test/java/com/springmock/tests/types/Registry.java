@@ -0,0 +1,15 @@
+package com.springmock.tests.types;
+
+import com.springmock.annotations.Autowired;
+import com.springmock.annotations.Component;
+
+@Component
+public class Registry {
+    public final AbstractRepository constructorRepository;
+    @Autowired
+    public Repository repository;
+
+    public Registry(AbstractRepository constructorRepository) {
+        this.constructorRepository = constructorRepository;
+    }
+}
@@ -0,0 +1,5 @@
+package com.springmock.tests.types;
+
+public interface Repository {
+    String find();
+}
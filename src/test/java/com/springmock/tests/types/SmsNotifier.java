@@ -0,0 +1,7 @@
+package com.springmock.tests.types;
+
+import com.springmock.annotations.Component;
+
+@Component
+public class SmsNotifier implements Notifier {
+}